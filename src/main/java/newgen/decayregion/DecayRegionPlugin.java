@@ -2,13 +2,21 @@ package newgen.decayregion;
 
 import newgen.decayregion.command.DecayRegionCommand;
 import newgen.decayregion.gui.DecayMenuListener;
+import newgen.decayregion.listener.ChunkLifecycleListener;
 import newgen.decayregion.listener.DecayRegionListener;
 import newgen.decayregion.listener.EntityDecayListener;
+import newgen.decayregion.listener.SnapshotDirtyListener;
 import newgen.decayregion.manager.BlockDecayManager;
+import newgen.decayregion.manager.DecayGovernor;
+import newgen.decayregion.manager.DropAggregator;
+import newgen.decayregion.manager.EntityRegistry;
+import newgen.decayregion.manager.LazyForceClear;
 import newgen.decayregion.manager.PlacedDataStore;
+import newgen.decayregion.manager.PlacementLimiter;
 import newgen.decayregion.manager.RegionSnapshotStore;
-import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.manager.StartupSequence;
 import newgen.decayregion.region.RegionManager;
+import newgen.decayregion.selection.DecayWand;
 import newgen.decayregion.selection.SelectionManager;
 import newgen.decayregion.util.MessageUtil;
 import org.bukkit.Bukkit;
@@ -28,6 +36,13 @@ public class DecayRegionPlugin extends JavaPlugin {
     private PlacedDataStore placedDataStore;
 
     private RegionSnapshotStore snapshotStore;
+    private StartupSequence startupSequence;
+    private LazyForceClear lazyForceClear;
+    private EntityDecayListener entityDecayListener;
+    private EntityRegistry entityRegistry;
+    private DropAggregator dropAggregator;
+    private DecayGovernor decayGovernor;
+    private PlacementLimiter placementLimiter;
 
     @Override
     public void onEnable() {
@@ -35,22 +50,32 @@ public class DecayRegionPlugin extends JavaPlugin {
 
         saveDefaultConfig();
         MessageUtil.init(this);
+        DecayWand.init(this);
 
         createRegionFile();
 
+        // stage 1 (blocking): region catalog + stores; the rest runs in the background
+        long catalogStart = System.nanoTime();
+
         regionManager = new RegionManager(this);
         regionManager.loadRegions();
 
         snapshotStore = new RegionSnapshotStore(this);
-
+        entityRegistry = new EntityRegistry();
         placedDataStore = new PlacedDataStore(this, regionManager);
-        placedDataStore.forceClearAllOnStartupIfEnabled();
 
-        for (DecayRegion r : regionManager.getRegions()) {
-            snapshotStore.restoreRegion(r);
-        }
+        getLogger().info("[Startup] Stage 'load catalog' finished in "
+                + (System.nanoTime() - catalogStart) / 1_000_000L + " ms (" + regionManager.getRegions().size() + " regions).");
+
+        lazyForceClear = new LazyForceClear(this, placedDataStore);
+        startupSequence = new StartupSequence(this, placedDataStore, snapshotStore);
+        startupSequence.start();
 
         selectionManager = new SelectionManager();
+        dropAggregator = new DropAggregator(this);
+        decayGovernor = new DecayGovernor(this);
+        decayGovernor.start();
+        placementLimiter = new PlacementLimiter(this);
         blockDecayManager = new BlockDecayManager(this, regionManager, placedDataStore);
 
         getServer().getPluginManager().registerEvents(
@@ -59,8 +84,15 @@ public class DecayRegionPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(
                 new DecayMenuListener(this, regionManager), this
         );
+        entityDecayListener = new EntityDecayListener(this, regionManager);
+        getServer().getPluginManager().registerEvents(entityDecayListener, this);
+        entityDecayListener.startScheduler();
+        entityDecayListener.adoptLoadedEntities();
+        getServer().getPluginManager().registerEvents(
+                new SnapshotDirtyListener(snapshotStore.getDirtyTracker()), this
+        );
         getServer().getPluginManager().registerEvents(
-                new EntityDecayListener(this, regionManager), this
+                new ChunkLifecycleListener(this), this
         );
 
         PluginCommand cmd = getCommand("decay");
@@ -80,6 +112,12 @@ public class DecayRegionPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (startupSequence != null) startupSequence.cancel();
+        if (lazyForceClear != null) lazyForceClear.stopTrickle();
+        if (entityDecayListener != null) entityDecayListener.stopScheduler();
+        if (decayGovernor != null) decayGovernor.stop();
+        if (dropAggregator != null) dropAggregator.flush();
+
         regionManager.saveRegions();
 
         if (placedDataStore != null) {
@@ -89,7 +127,7 @@ public class DecayRegionPlugin extends JavaPlugin {
         }
 
         if (snapshotStore != null) {
-            try { snapshotStore.close(); } catch (Throwable ignored) {}
+            try { snapshotStore.shutdown(); } catch (Throwable ignored) {}
         }
 
         getLogger().info("DecayRegion disabled.");
@@ -107,6 +145,8 @@ public class DecayRegionPlugin extends JavaPlugin {
 
         if (snapshotStore != null) snapshotStore.reload();
         if (placedDataStore != null) placedDataStore.reload();
+        if (decayGovernor != null) decayGovernor.reload();
+        if (placementLimiter != null) placementLimiter.reload();
     }
 
     public static DecayRegionPlugin getInstance() {
@@ -133,6 +173,34 @@ public class DecayRegionPlugin extends JavaPlugin {
         return snapshotStore;
     }
 
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
+    public EntityDecayListener getEntityDecayListener() {
+        return entityDecayListener;
+    }
+
+    public DecayGovernor getDecayGovernor() {
+        return decayGovernor;
+    }
+
+    public PlacementLimiter getPlacementLimiter() {
+        return placementLimiter;
+    }
+
+    public DropAggregator getDropAggregator() {
+        return dropAggregator;
+    }
+
+    public LazyForceClear getLazyForceClear() {
+        return lazyForceClear;
+    }
+
+    public StartupSequence getStartupSequence() {
+        return startupSequence;
+    }
+
     public FileConfiguration getCfg() {
         return getConfig();
     }
@@ -2,12 +2,15 @@ package newgen.decayregion.command;
 
 import newgen.decayregion.DecayRegionPlugin;
 import newgen.decayregion.gui.DecayMenuGUI;
+import newgen.decayregion.manager.DecayGovernor;
+import newgen.decayregion.manager.DropAggregator;
 import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.region.DropPolicy;
 import newgen.decayregion.region.RegionManager;
+import newgen.decayregion.selection.DecayWand;
 import newgen.decayregion.selection.SelectionManager;
 import newgen.decayregion.util.MessageUtil;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.Sound;
@@ -16,11 +19,8 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -100,6 +100,24 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
                 removeRegion(player, args[1]);
             }
 
+            case "drops" -> {
+                if (args.length < 3) {
+                    MessageUtil.send(player, "&cUsage: &e/decay drops <name> <natural|none|merge|return>");
+                    return true;
+                }
+                setDropPolicy(player, args[1], args[2]);
+            }
+
+            case "steps" -> {
+                if (args.length < 3) {
+                    MessageUtil.send(player, "&cUsage: &e/decay steps <name> <0-10>");
+                    return true;
+                }
+                setAnimationSteps(player, args[1], args[2]);
+            }
+
+            case "stats" -> sendStats(player);
+
             case "menu" -> DecayMenuGUI.openMain(player, plugin, regionManager, 1);
 
             default -> sendHelp(player);
@@ -116,19 +134,15 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
         MessageUtil.send(player, "&e/decay list &7- View all regions.");
         MessageUtil.send(player, "&e/decay remove <name> &7- Remove a region.");
         MessageUtil.send(player, "&e/decay menu &7- Open the region management GUI.");
+        MessageUtil.send(player, "&e/decay drops <name> <policy> &7- Set what decayed blocks drop (natural/none/merge/return).");
+        MessageUtil.send(player, "&e/decay steps <name> <0-10> &7- Set the break animation steps (0 = no animation).");
+        MessageUtil.send(player, "&e/decay stats &7- Show decay drop and load-shedding statistics.");
         MessageUtil.send(player, "&e/decay reset <name> &7- ForceClear + Restore snapshot (like restart).");
         MessageUtil.send(player, "&e/decay reload &7- Reload config + plugin data.");
     }
 
     private void giveWand(Player player) {
-        ItemStack wand = new ItemStack(Material.BLAZE_ROD);
-        ItemMeta meta = wand.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName("§bDecayRegion Wand");
-            meta.addEnchant(Enchantment.UNBREAKING, 1, true);
-            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-            wand.setItemMeta(meta);
-        }
+        ItemStack wand = DecayWand.create();
 
         player.getInventory().addItem(wand);
         MessageUtil.send(player, "&aYou have received &bDecayRegion Wand&a.");
@@ -141,14 +155,32 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        if (plugin.getPlacedDataStore() != null) {
-            plugin.getPlacedDataStore().forceClearRegion(region.getName());
+        if (plugin.getPlacedDataStore() == null) {
+            restoreAfterReset(player, region);
+            return;
         }
-        if (plugin.getSnapshotStore() != null) {
-            plugin.getSnapshotStore().restoreRegion(region);
+        plugin.getPlacedDataStore().forceClearRegion(region.getId(), () -> restoreAfterReset(player, region));
+    }
+
+    private void restoreAfterReset(Player player, DecayRegion region) {
+        if (plugin.getSnapshotStore() == null) {
+            if (player.isOnline()) MessageUtil.send(player, "&aRegion reset: &e" + region.getName() + "&a.");
+            return;
         }
 
-        MessageUtil.send(player, "&aRegion reset: &e" + region.getName() + "&a.");
+        int[] lastQuarter = {0};
+        plugin.getSnapshotStore().restoreRegion(region, (written, total) -> {
+            if (!player.isOnline() || total <= 0) return;
+            int quarter = (int) (written * 4L / total);
+            if (quarter > lastQuarter[0] && quarter < 4) {
+                lastQuarter[0] = quarter;
+                MessageUtil.send(player, "&7Restoring &e" + region.getName() + "&7: " + (quarter * 25) + "%");
+            }
+        }, result -> {
+            if (!player.isOnline()) return;
+            MessageUtil.send(player, "&aRegion reset: &e" + region.getName()
+                    + " &7(written " + result.written() + ", unchanged " + result.skipped() + ")&a.");
+        });
     }
 
     private void createRegion(Player player, String name) {
@@ -190,6 +222,8 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
                 maxX, maxY, maxZ,
                 defaultDecay
         );
+        region.setDropPolicy(regionManager.getDefaultDropPolicy());
+        region.setAnimationSteps(regionManager.getDefaultAnimationSteps());
 
         if (regionManager.isOverlapping(region)) {
             MessageUtil.send(player, "&cCannot create region &e" + name + "&c because it overlaps another region.");
@@ -199,7 +233,11 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
         regionManager.addRegion(region);
 
         if (plugin.getSnapshotStore() != null) {
-            plugin.getSnapshotStore().snapshotRegion(region);
+            plugin.getSnapshotStore().snapshotRegion(region, true, ok -> {
+                if (!player.isOnline()) return;
+                if (ok) MessageUtil.send(player, "&7Snapshot saved for region &e" + name + "&7.");
+                else MessageUtil.send(player, "&cFailed to save snapshot for region &e" + name + "&c.");
+            });
         }
 
         MessageUtil.send(player, "&aCreated decay region &e" + name + " &ain world &e" + world.getName() + "&a.");
@@ -246,9 +284,74 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
         );
     }
 
+    private void setDropPolicy(Player player, String name, String value) {
+        DecayRegion region = regionManager.getRegion(name);
+        if (region == null) {
+            MessageUtil.send(player, "&cRegion not found: &e" + name + "&c.");
+            return;
+        }
+
+        DropPolicy policy = DropPolicy.fromString(value, null);
+        if (policy == null) {
+            MessageUtil.send(player, "&cUnknown drop policy: &e" + value + "&c. Use natural, none, merge or return.");
+            return;
+        }
+
+        region.setDropPolicy(policy);
+        regionManager.saveRegions();
+        MessageUtil.send(player, "&aDrop policy of &e" + region.getName() + " &aset to &e" + policy.name().toLowerCase() + "&a.");
+    }
+
+    private void setAnimationSteps(Player player, String name, String value) {
+        DecayRegion region = regionManager.getRegion(name);
+        if (region == null) {
+            MessageUtil.send(player, "&cRegion not found: &e" + name + "&c.");
+            return;
+        }
+
+        int steps;
+        try {
+            steps = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            steps = -1;
+        }
+        if (steps < 0 || steps > 10) {
+            MessageUtil.send(player, "&cAnimation steps must be a number from 0 to 10.");
+            return;
+        }
+
+        region.setAnimationSteps(steps);
+        regionManager.saveRegions();
+        MessageUtil.send(player, "&aAnimation steps of &e" + region.getName() + " &aset to &e" + steps
+                + (steps == 0 ? " &7(no animation)" : "") + "&a. Applies to newly decaying blocks.");
+    }
+
+    private void sendStats(Player player) {
+        DropAggregator drops = plugin.getDropAggregator();
+        MessageUtil.send(player, "&aDecay drop stats:");
+        MessageUtil.send(player, "&7Blocks decayed: &e" + drops.getBlocksBroken()
+                + " &7(without drops: &e" + drops.getVoidedBlocks() + "&7)");
+        MessageUtil.send(player, "&7Merged drop entities alive: &e" + drops.getLiveItemEntities()
+                + " &7(spawned in total: &e" + drops.getItemEntities() + "&7)");
+        MessageUtil.send(player, "&7Items merged: &e" + drops.getItemsMerged()
+                + " &7returned to placers: &e" + drops.getItemsReturned());
+        MessageUtil.send(player, "&7Break + drop handling cost: &e" + String.format("%.1f", drops.getAverageMicros())
+                + "us &7per block, &e" + drops.getTotalMillis() + "ms &7total");
+        DecayGovernor governor = plugin.getDecayGovernor();
+        MessageUtil.send(player, "&7Throttle level: &e" + governor.getLevel() + " &7(MSPT &e"
+                + String.format("%.1f", governor.getMspt()) + "&7, deferred completions: &e" + governor.getDeferred()
+                + "&7, total deferred: &e" + governor.getDeferredTotal() + "&7)");
+        for (DecayRegion r : regionManager.getRegions()) {
+            MessageUtil.send(player, "&e- " + r.getName() + " &7drops: &f" + r.getDropPolicy().name().toLowerCase()
+                    + " &7player-placed tracked blocks: &e" + plugin.getPlacementLimiter().getTracked(r));
+        }
+    }
+
     private void removeRegion(Player player, String name) {
+        DecayRegion region = regionManager.getRegion(name);
         boolean removed = regionManager.removeRegion(name);
         if (removed) {
+            plugin.getSnapshotStore().deleteRegion(region);
             MessageUtil.send(player, "&aRemoved region &e" + name + "&a.");
         } else {
             MessageUtil.send(player, "&cRegion not found: &e" + name + "&c.");
@@ -267,13 +370,20 @@ public class DecayRegionCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             String prefix = args[0].toLowerCase();
-            String[] subs = {"help", "wand", "create", "list", "remove", "menu", "reload", "reset"};
+            String[] subs = {"help", "wand", "create", "list", "remove", "menu", "reload", "reset", "drops", "steps", "stats"};
             for (String s : subs) if (s.startsWith(prefix)) list.add(s);
-        } else if (args.length == 2 && (args[0].equalsIgnoreCase("remove") || args[0].equalsIgnoreCase("reset"))) {
+        } else if (args.length == 2 && (args[0].equalsIgnoreCase("remove") || args[0].equalsIgnoreCase("reset")
+                || args[0].equalsIgnoreCase("drops") || args[0].equalsIgnoreCase("steps"))) {
             String prefix = args[1].toLowerCase();
             for (DecayRegion r : regionManager.getRegions()) {
                 if (r.getName().toLowerCase().startsWith(prefix)) list.add(r.getName());
             }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("drops")) {
+            String prefix = args[2].toLowerCase();
+            for (DropPolicy p : DropPolicy.values()) {
+                String name = p.name().toLowerCase();
+                if (name.startsWith(prefix)) list.add(name);
+            }
         }
 
         return list;
@@ -1,6 +1,7 @@
 package newgen.decayregion.gui;
 
 import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.manager.RegionSnapshotStore;
 import newgen.decayregion.region.DecayRegion;
 import newgen.decayregion.region.RegionManager;
 import org.bukkit.Bukkit;
@@ -183,12 +184,23 @@ public class DecayMenuGUI {
     }
 
     private static ItemStack regionInfo(DecayRegion r) {
+        String snapshot = "&7Snapshot: &cnone";
+        RegionSnapshotStore store = DecayRegionPlugin.getInstance().getSnapshotStore();
+        if (store != null && store.getGeneration(r) > 0) {
+            int stale = store.countStaleSections(r);
+            snapshot = "&7Snapshot: &fgen " + store.getGeneration(r)
+                    + (stale < 0 ? "" : stale == 0 ? " &a(no changes seen)" : " &e(" + stale + " changed sections)");
+        }
+
         return button(Material.BOOK, "&bRegion Info", lore(
                 "&7Name: &e" + r.getName(),
                 "&7World: &f" + r.getWorldName(),
                 "&7Decay: &6" + r.getDecaySeconds() + "s",
+                "&7Drops: &f" + r.getDropPolicy().name().toLowerCase(),
+                "&7Animation: &f" + (r.getAnimationSteps() == 0 ? "off" : r.getAnimationSteps() + " steps"),
                 "&7Min: &f" + r.getMinX() + ", " + r.getMinY() + ", " + r.getMinZ(),
-                "&7Max: &f" + r.getMaxX() + ", " + r.getMaxY() + ", " + r.getMaxZ()
+                "&7Max: &f" + r.getMaxX() + ", " + r.getMaxY() + ", " + r.getMaxZ(),
+                snapshot
         ));
     }
 
@@ -227,15 +227,26 @@ public class DecayMenuListener implements Listener {
             if (slot == 11) {
                 click(player);
 
+                Runnable afterClear = () -> {
+                    if (plugin.getSnapshotStore() != null) {
+                        plugin.getSnapshotStore().restoreRegion(region, result -> {
+                            if (!player.isOnline()) return;
+                            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1f);
+                            MessageUtil.send(player, "&aForce cleared + restored snapshot for region &e" + region.getName()
+                                    + " &7(written " + result.written() + ", unchanged " + result.skipped() + ")&a.");
+                        });
+                    } else if (player.isOnline()) {
+                        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1f);
+                        MessageUtil.send(player, "&aForce cleared region &e" + region.getName() + "&a.");
+                    }
+                };
+
                 if (plugin.getPlacedDataStore() != null) {
-                    plugin.getPlacedDataStore().forceClearRegion(region.getName());
-                }
-                if (plugin.getSnapshotStore() != null) {
-                    plugin.getSnapshotStore().restoreRegion(region);
+                    plugin.getPlacedDataStore().forceClearRegion(region.getId(), afterClear);
+                } else {
+                    afterClear.run();
                 }
 
-                player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1f);
-                MessageUtil.send(player, "&aForce cleared + restored snapshot for region &e" + region.getName() + "&a.");
                 DecayMenuGUI.openRegionManage(player, region);
                 return;
             }
@@ -261,15 +272,25 @@ public class DecayMenuListener implements Listener {
             if (slot == 11) {
                 click(player);
 
-                boolean ok = plugin.getSnapshotStore() != null && plugin.getSnapshotStore().snapshotRegion(region);
-                if (ok) {
-                    player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 1f, 1f);
-                    MessageUtil.send(player, "&aSaved snapshot for region &e" + region.getName() + "&a.");
-                } else {
+                if (plugin.getSnapshotStore() == null) {
                     player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
                     MessageUtil.send(player, "&cFailed to save snapshot.");
+                    DecayMenuGUI.openRegionManage(player, region);
+                    return;
                 }
 
+                MessageUtil.send(player, "&7Saving snapshot for region &e" + region.getName() + "&7...");
+                plugin.getSnapshotStore().snapshotRegion(region, ok -> {
+                    if (!player.isOnline()) return;
+                    if (ok) {
+                        player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 1f, 1f);
+                        MessageUtil.send(player, "&aSaved snapshot for region &e" + region.getName() + "&a.");
+                    } else {
+                        player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
+                        MessageUtil.send(player, "&cFailed to save snapshot.");
+                    }
+                });
+
                 DecayMenuGUI.openRegionManage(player, region);
                 return;
             }
@@ -295,24 +316,29 @@ public class DecayMenuListener implements Listener {
             if (slot == 11) {
                 click(player);
 
-                try {
-                    if (plugin.getPlacedDataStore() != null) {
-                        plugin.getPlacedDataStore().forceClearRegion(region.getName());
+                // the region must still exist while its blocks are cleared (fluid flood-clear is bounded by it)
+                Runnable delete = () -> {
+                    boolean removed = regionManager.removeRegion(region.getName());
+                    regionManager.saveRegions();
+                    if (removed) plugin.getSnapshotStore().deleteRegion(region);
+                    if (!player.isOnline()) return;
+
+                    if (removed) {
+                        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1.1f);
+                        MessageUtil.send(player, "&aDeleted region &e" + region.getName() + "&a.");
+                    } else {
+                        player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
+                        MessageUtil.send(player, "&cFailed to delete region &e" + region.getName() + "&c.");
                     }
-                } catch (Throwable ignored) {}
 
-                boolean removed = regionManager.removeRegion(region.getName());
-                regionManager.saveRegions();
+                    DecayMenuGUI.openMain(player, plugin, regionManager, lastMainPage.getOrDefault(player.getUniqueId(), 1));
+                };
 
-                if (removed) {
-                    player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1f, 1.1f);
-                    MessageUtil.send(player, "&aDeleted region &e" + region.getName() + "&a.");
+                if (plugin.getPlacedDataStore() != null) {
+                    plugin.getPlacedDataStore().forceClearRegion(region.getId(), delete);
                 } else {
-                    player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
-                    MessageUtil.send(player, "&cFailed to delete region &e" + region.getName() + "&c.");
+                    delete.run();
                 }
-
-                DecayMenuGUI.openMain(player, plugin, regionManager, lastMainPage.getOrDefault(player.getUniqueId(), 1));
                 return;
             }
 
@@ -373,17 +399,14 @@ public class DecayMenuListener implements Listener {
                 return;
             }
 
-            if (plugin.getPlacedDataStore() != null) {
-                plugin.getPlacedDataStore().renameRegionKey(oldName, newName);
-            }
+            DecayRegion region = regionManager.getRegion(newName);
             if (plugin.getSnapshotStore() != null) {
-                plugin.getSnapshotStore().renameSnapshotKey(oldName, newName);
+                plugin.getSnapshotStore().renameRegion(region);
             }
 
             player.playSound(player.getLocation(), Sound.BLOCK_ANVIL_USE, 1f, 1f);
             MessageUtil.send(player, "&aRenamed region &e" + oldName + " &a-> &b" + newName + "&a.");
 
-            DecayRegion region = regionManager.getRegion(newName);
             if (region != null) DecayMenuGUI.openRegionManage(player, region);
             else DecayMenuGUI.openMain(player, plugin, regionManager, lastMainPage.getOrDefault(player.getUniqueId(), 1));
         });
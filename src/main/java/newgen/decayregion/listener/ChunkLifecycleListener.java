@@ -0,0 +1,39 @@
+package newgen.decayregion.listener;
+
+import newgen.decayregion.DecayRegionPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+
+/**
+ * Chunk and entity load hooks: leftovers from the last run are cleared here in lazy force-clear mode,
+ * and decay timers are parked while their chunk is unloaded.
+ */
+public class ChunkLifecycleListener implements Listener {
+
+    private final DecayRegionPlugin plugin;
+
+    public ChunkLifecycleListener(DecayRegionPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (event.isNewChunk()) return;
+        plugin.getLazyForceClear().onChunkLoad(event.getChunk());
+        plugin.getBlockDecayManager().onChunkLoad(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        plugin.getBlockDecayManager().onChunkUnload(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        plugin.getLazyForceClear().onEntitiesLoad(event.getEntities());
+    }
+}
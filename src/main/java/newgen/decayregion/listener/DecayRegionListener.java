@@ -1,25 +1,30 @@
 package newgen.decayregion.listener;
 
 import newgen.decayregion.manager.BlockDecayManager;
+import newgen.decayregion.region.DecayRegion;
 import newgen.decayregion.region.RegionManager;
+import newgen.decayregion.selection.DecayWand;
 import newgen.decayregion.selection.SelectionManager;
 import newgen.decayregion.util.MessageUtil;
-import org.bukkit.ChatColor;
-import org.bukkit.Material;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
 import org.bukkit.event.block.BlockFormEvent;
 import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 public class DecayRegionListener implements Listener {
 
@@ -39,31 +44,70 @@ public class DecayRegionListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlace(BlockPlaceEvent event) {
-        blockDecayManager.handleBlockPlace(event);
+        DecayRegion region = regionAt(event.getBlockPlaced());
+        if (region == null) return;
+        if (denyWhileRestoring(event.getPlayer(), region, event)) return;
+        blockDecayManager.handleBlockPlace(event, region);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBucketEmpty(PlayerBucketEmptyEvent event) {
-        blockDecayManager.handleBucketEmpty(event);
+        DecayRegion region = regionAt(event.getBlockClicked().getRelative(event.getBlockFace()));
+        if (region == null) return;
+        if (denyWhileRestoring(event.getPlayer(), region, event)) return;
+        blockDecayManager.handleBucketEmpty(event, region);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
-        if (isDecayWand(player.getInventory().getItemInMainHand())) {
+        if (DecayWand.isWand(player.getInventory().getItemInMainHand())) {
             event.setCancelled(true);
             return;
         }
-        blockDecayManager.handleBlockBreak(event);
+        DecayRegion region = regionAt(event.getBlock());
+        if (region == null) return;
+        if (denyWhileRestoring(player, region, event)) return;
+        blockDecayManager.handleBlockBreak(event, region);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        Block source = event.getBlock();
+        if (!regionManager.isNearRegionChunk(source.getWorld(), source.getX(), source.getZ())) return;
+        blockDecayManager.handleExplosion(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        Location source = event.getLocation();
+        if (!regionManager.isNearRegionChunk(source.getWorld(), source.getBlockX(), source.getBlockZ())) return;
+        blockDecayManager.handleExplosion(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        Block piston = event.getBlock();
+        if (!regionManager.isNearRegionChunk(piston.getWorld(), piston.getX(), piston.getZ())) return;
+        blockDecayManager.handlePistonMove(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        Block piston = event.getBlock();
+        if (!regionManager.isNearRegionChunk(piston.getWorld(), piston.getX(), piston.getZ())) return;
+        blockDecayManager.handlePistonMove(event.getBlocks(), event.getDirection());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onFlow(BlockFromToEvent event) {
+        if (!regionManager.isRegionChunk(event.getBlock()) && !regionManager.isRegionChunk(event.getToBlock())) return;
         blockDecayManager.handleBlockFlow(event);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onForm(BlockFormEvent event) {
+        if (!regionManager.isRegionChunk(event.getBlock())) return;
         blockDecayManager.handleBlockForm(event);
     }
 
@@ -73,7 +117,7 @@ public class DecayRegionListener implements Listener {
 
         Player player = event.getPlayer();
 
-        if (isDecayWand(player.getInventory().getItemInMainHand())) {
+        if (DecayWand.isWand(player.getInventory().getItemInMainHand())) {
             if (event.getClickedBlock() == null) return;
 
             switch (event.getAction()) {
@@ -98,21 +142,33 @@ public class DecayRegionListener implements Listener {
             return;
         }
 
+        if (event.getClickedBlock() == null || !regionManager.isRegionChunk(event.getClickedBlock())) return;
         blockDecayManager.handleRightClick(event);
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBucketFill(PlayerBucketFillEvent event) {
-        blockDecayManager.handleBucketFill(event);
+        DecayRegion region = regionAt(event.getBlockClicked());
+        if (region == null) return;
+        if (denyWhileRestoring(event.getPlayer(), region, event)) return;
+        blockDecayManager.handleBucketFill(event, region);
     }
 
-    private boolean isDecayWand(ItemStack item) {
-        if (item == null || item.getType() != Material.BLAZE_ROD) return false;
+    /**
+     * Resolved once per event; the chunk prefilter rejects blocks outside region chunks before any scan.
+     */
+    private DecayRegion regionAt(Block block) {
+        return regionManager.getRegionAt(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) return false;
+    /**
+     * Startup is still restoring this region: refuse the change instead of racing the restore.
+     */
+    private boolean denyWhileRestoring(Player player, DecayRegion region, Cancellable event) {
+        if (!regionManager.isLockedForStartup(region)) return false;
 
-        String stripped = ChatColor.stripColor(meta.getDisplayName());
-        return stripped != null && stripped.equalsIgnoreCase("DecayRegion Wand");
+        event.setCancelled(true);
+        MessageUtil.send(player, "&cThis region is still being restored, try again in a moment.");
+        return true;
     }
 }
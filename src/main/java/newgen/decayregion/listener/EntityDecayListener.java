@@ -1,38 +1,83 @@
 package newgen.decayregion.listener;
 
 import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.manager.EntityRegistry;
+import newgen.decayregion.manager.PlacedDataStore;
 import newgen.decayregion.region.DecayRegion;
 import newgen.decayregion.region.RegionManager;
+import newgen.decayregion.util.ChunkKey;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.*;
 import org.bukkit.entity.minecart.*;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.EntityPlaceEvent;
+import org.bukkit.event.hanging.HangingBreakEvent;
+import org.bukkit.event.hanging.HangingPlaceEvent;
+import org.bukkit.event.vehicle.VehicleDestroyEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.inventory.EntityEquipment;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
 
 public class EntityDecayListener implements Listener {
 
     private final DecayRegionPlugin plugin;
     private final RegionManager regionManager;
+    private final EntityRegistry registry;
 
     private final boolean denyBoats;
     private final boolean denyMinecarts;
     private final boolean denyEndCrystals;
 
+    private final boolean decayArmorStands;
+    private final boolean decayItemFrames;
+    private final boolean decayPaintings;
+
+    // entity-decay.mode: pdc keeps the deadline on the entity itself instead of in placed_entities
+    private final boolean pdcMode;
+    private final NamespacedKey deadlineKey;
+    private final NamespacedKey regionKey;
+
+    // {deadline, uuid msb, uuid lsb}, earliest first
+    private final PriorityQueue<long[]> due = new PriorityQueue<>(Comparator.comparingLong(a -> a[0]));
+    private BukkitTask scheduler;
+
     public EntityDecayListener(DecayRegionPlugin plugin, RegionManager regionManager) {
         this.plugin = plugin;
         this.regionManager = regionManager;
+        this.registry = plugin.getEntityRegistry();
 
         FileConfiguration cfg = plugin.getCfg();
         this.denyBoats = cfg.getBoolean("deny-place.boats", true);
         this.denyMinecarts = cfg.getBoolean("deny-place.minecarts", true);
         this.denyEndCrystals = cfg.getBoolean("deny-place.end-crystals", true);
+
+        this.decayArmorStands = cfg.getBoolean("entity-decay.types.armor-stands", true);
+        this.decayItemFrames = cfg.getBoolean("entity-decay.types.item-frames", true);
+        this.decayPaintings = cfg.getBoolean("entity-decay.types.paintings", true);
+
+        this.pdcMode = "pdc".equalsIgnoreCase(cfg.getString("entity-decay.mode", "database"));
+        this.deadlineKey = new NamespacedKey(plugin, "decay_deadline");
+        this.regionKey = new NamespacedKey(plugin, "decay_region");
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -42,47 +87,245 @@ public class EntityDecayListener implements Listener {
         boolean isBoat = (entity instanceof Boat) || (entity instanceof ChestBoat);
         boolean isMinecart = (entity instanceof Minecart);
         boolean isCrystal = (entity instanceof EnderCrystal);
+        boolean isArmorStand = (entity instanceof ArmorStand);
 
-        if (!isBoat && !isMinecart && !isCrystal) return;
+        if (!isBoat && !isMinecart && !isCrystal && !(isArmorStand && decayArmorStands)) return;
 
+        boolean deny = (isBoat && denyBoats) || (isMinecart && denyMinecarts) || (isCrystal && denyEndCrystals);
+        trackPlaced(entity, event, deny);
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onHangingPlace(HangingPlaceEvent event) {
+        Hanging entity = event.getEntity();
+
+        boolean isFrame = (entity instanceof ItemFrame) && decayItemFrames;
+        boolean isPainting = (entity instanceof Painting) && decayPaintings;
+        if (!isFrame && !isPainting) return;
+
+        trackPlaced(entity, event, false);
+    }
+
+    private void trackPlaced(Entity entity, Cancellable event, boolean deny) {
         DecayRegion region = regionManager.getRegionAt(entity.getLocation());
         if (region == null) return;
 
-        if ((isBoat && denyBoats) || (isMinecart && denyMinecarts) || (isCrystal && denyEndCrystals)) {
+        if (deny || regionManager.isLockedForStartup(region)) {
             event.setCancelled(true);
             return;
         }
 
-        UUID uuid = entity.getUniqueId();
-        plugin.getPlacedDataStore().recordEntity(region, uuid);
+        long deadline = System.currentTimeMillis() + region.getDecaySeconds() * 1000L;
 
-        int seconds = region.getDecaySeconds();
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Entity current = null;
-            for (org.bukkit.World w : Bukkit.getWorlds()) {
-                current = w.getEntity(uuid);
-                if (current != null) break;
-            }
+        if (pdcMode) {
+            PersistentDataContainer pdc = entity.getPersistentDataContainer();
+            pdc.set(deadlineKey, PersistentDataType.LONG, deadline);
+            pdc.set(regionKey, PersistentDataType.INTEGER, region.getId());
+        } else {
+            plugin.getPlacedDataStore().recordEntity(region, entity);
+        }
 
-            if (current == null || !current.isValid()) {
-                plugin.getPlacedDataStore().removeEntity(region, uuid);
-                return;
-            }
+        enqueue(registry.track(region.getId(), entity, deadline));
+    }
+
+    /**
+     * Re-arms an entity tracked before the restart, or removes it now when its deadline already passed.
+     */
+    public void resume(PlacedDataStore.LeftoverEntity item, long nowMillis) {
+        if (regionManager.getRegion(item.region()) == null) {
+            plugin.getPlacedDataStore().removeEntity(null, item.uuid());
+            return;
+        }
+
+        // overdue ones expire on the next scheduler pass, together
+        enqueue(registry.track(item.region(), item.uuid(), item.chunk(), item.deadline()));
+    }
 
-            DecayRegion now = regionManager.getRegionAt(current.getLocation());
-            if (now == null || !now.getName().equalsIgnoreCase(region.getName())) {
-                plugin.getPlacedDataStore().removeEntity(region, uuid);
-                return;
+    // =========================
+    // SHARED SCHEDULER
+    // =========================
+
+    private void enqueue(EntityRegistry.Tracked t) {
+        due.add(new long[]{t.getDeadline(), t.getUuid().getMostSignificantBits(), t.getUuid().getLeastSignificantBits()});
+    }
+
+    /**
+     * One repeating task for all tracked entities: expires everything whose deadline passed.
+     */
+    public void startScheduler() {
+        if (scheduler != null) return;
+        long period = Math.max(1L, plugin.getCfg().getLong("entity-decay.check-ticks", 10L));
+        scheduler = Bukkit.getScheduler().runTaskTimer(plugin, this::expireDue, period, period);
+    }
+
+    public void stopScheduler() {
+        if (scheduler != null) scheduler.cancel();
+        scheduler = null;
+    }
+
+    private void expireDue() {
+        long now = System.currentTimeMillis();
+        List<UUID> done = new ArrayList<>();
+
+        List<EntityRegistry.Tracked> expired = new ArrayList<>();
+        while (!due.isEmpty() && due.peek()[0] <= now) {
+            long[] head = due.poll();
+            EntityRegistry.Tracked t = registry.get(new UUID(head[1], head[2]));
+
+            // untracked meanwhile, or re-tracked with a later deadline (that one has its own entry)
+            if (t == null || t.getDeadline() > now) continue;
+
+            // never load a chunk for this; the entity expires in onEntitiesLoad once its chunk is back
+            if (!registry.isLoaded(t)) continue;
+
+            expired.add(t);
+        }
+
+        // one entity scan per chunk instead of one lookup per entity
+        for (Map.Entry<ChunkKey, List<EntityRegistry.Tracked>> e : registry.groupByChunk(expired).entrySet()) {
+            Map<UUID, Entity> found = registry.resolve(e.getKey(), e.getValue());
+            for (EntityRegistry.Tracked t : e.getValue()) {
+                if (registry.get(t.getUuid()) != t) continue;
+
+                Entity current = found.get(t.getUuid());
+                if (current == null) current = Bukkit.getEntity(t.getUuid());
+                // its last chunk is loaded and it isn't anywhere: it is gone, expire() drops the tracking and
+                // the row (entities carried into a chunk that unloaded carry that chunk and are never checked here)
+                expire(t, current, done);
             }
+        }
+
+        plugin.getPlacedDataStore().removeEntities(done);
+    }
 
-            if (current instanceof Vehicle v) v.eject();
+    /**
+     * PDC mode: picks up tagged entities that were already loaded when the plugin enabled.
+     */
+    public void adoptLoadedEntities() {
+        if (!pdcMode) return;
+        for (org.bukkit.World w : Bukkit.getWorlds()) {
+            for (Entity e : w.getEntities()) adoptTagged(e);
+        }
+    }
 
-            dropEntityItem(current);
+    private EntityRegistry.Tracked adoptTagged(Entity e) {
+        PersistentDataContainer pdc = e.getPersistentDataContainer();
+        Long deadline = pdc.get(deadlineKey, PersistentDataType.LONG);
+        Integer region = readRegionTag(pdc);
+        if (deadline == null || region == null) return null;
+
+        EntityRegistry.Tracked t = registry.track(region, e, deadline);
+        enqueue(t);
+        return t;
+    }
 
+    private Integer readRegionTag(PersistentDataContainer pdc) {
+        if (pdc.has(regionKey, PersistentDataType.INTEGER)) return pdc.get(regionKey, PersistentDataType.INTEGER);
+        if (!pdc.has(regionKey, PersistentDataType.STRING)) return null;
+
+        // tags written by older versions hold the region name
+        DecayRegion region = regionManager.getRegion(pdc.get(regionKey, PersistentDataType.STRING));
+        return region != null ? region.getId() : 0;
+    }
+
+    /**
+     * Removes a tracked entity. A deadline of 0 marks a force-clear: no drop and no region check.
+     * {@code done} collects the rows to delete; in PDC mode only force-clears have one.
+     */
+    private void expire(EntityRegistry.Tracked t, Entity current, List<UUID> done) {
+        registry.untrack(t.getUuid());
+        if (!pdcMode || t.getDeadline() == 0L) done.add(t.getUuid());
+
+        if (current == null || !current.isValid()) return;
+
+        if (pdcMode) {
+            current.getPersistentDataContainer().remove(deadlineKey);
+            current.getPersistentDataContainer().remove(regionKey);
+        }
+
+        if (t.getDeadline() == 0L) {
             current.remove();
-            plugin.getPlacedDataStore().removeEntity(region, uuid);
+            return;
+        }
+
+        DecayRegion now = regionManager.getRegionAt(current.getLocation());
+        if (now == null || now.getId() != t.getRegion()) return;
+
+        if (current instanceof Vehicle v) v.eject();
 
-        }, Math.max(1L, seconds * 20L));
+        dropEntityItem(current);
+
+        current.remove();
+    }
+
+    // =========================
+    // CHUNK TRACKING
+    // =========================
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        long now = System.currentTimeMillis();
+        List<UUID> done = new ArrayList<>();
+
+        for (Entity e : event.getEntities()) {
+            EntityRegistry.Tracked t = registry.get(e.getUniqueId());
+            if (t == null && pdcMode) t = adoptTagged(e);
+            if (t == null) continue;
+
+            registry.move(e);
+            if (t.getDeadline() <= now) expire(t, e, done);
+        }
+
+        plugin.getPlacedDataStore().removeEntities(done);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        List<EntityRegistry.Tracked> moved = new ArrayList<>();
+
+        for (Entity e : event.getEntities()) {
+            if (registry.move(e)) moved.add(registry.get(e.getUniqueId()));
+        }
+
+        if (!pdcMode) plugin.getPlacedDataStore().updateEntityChunks(moved);
+    }
+
+    // =========================
+    // DESTROYED BEFORE EXPIRY
+    // =========================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDeath(EntityDeathEvent event) {
+        forget(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHangingBreak(HangingBreakEvent event) {
+        forget(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleDestroy(VehicleDestroyEvent event) {
+        forget(event.getVehicle());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCrystalExplode(EntityExplodeEvent event) {
+        if (event.getEntity() instanceof EnderCrystal) forget(event.getEntity());
+    }
+
+    private void forget(Entity entity) {
+        if (entity == null || !registry.isTracked(entity.getUniqueId())) return;
+        registry.untrack(entity.getUniqueId());
+        plugin.getPlacedDataStore().removeEntity(null, entity.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        if ((event.getFrom().getBlockX() >> 4) == (event.getTo().getBlockX() >> 4)
+                && (event.getFrom().getBlockZ() >> 4) == (event.getTo().getBlockZ() >> 4)) return;
+
+        registry.move(event.getVehicle());
     }
 
     private void dropEntityItem(Entity e) {
@@ -105,10 +348,29 @@ public class EntityDecayListener implements Listener {
             else drop = Material.MINECART;
         } else if (e instanceof EnderCrystal) {
             drop = Material.END_CRYSTAL;
+        } else if (e instanceof ArmorStand as) {
+            drop = Material.ARMOR_STAND;
+            EntityEquipment eq = as.getEquipment();
+            if (eq != null) {
+                for (ItemStack item : eq.getArmorContents()) dropIfPresent(e, item);
+                dropIfPresent(e, eq.getItemInMainHand());
+                dropIfPresent(e, eq.getItemInOffHand());
+                eq.clear();
+            }
+        } else if (e instanceof ItemFrame frame) {
+            drop = (frame instanceof GlowItemFrame) ? Material.GLOW_ITEM_FRAME : Material.ITEM_FRAME;
+            dropIfPresent(e, frame.getItem());
+        } else if (e instanceof Painting) {
+            drop = Material.PAINTING;
         }
 
         if (drop != null) {
             e.getWorld().dropItemNaturally(e.getLocation(), new ItemStack(drop, 1));
         }
     }
+
+    private void dropIfPresent(Entity e, ItemStack item) {
+        if (item == null || item.getType() == null || item.getType().isAir()) return;
+        e.getWorld().dropItemNaturally(e.getLocation(), item);
+    }
 }
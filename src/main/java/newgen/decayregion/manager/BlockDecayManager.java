@@ -4,11 +4,16 @@ import newgen.decayregion.DecayRegionPlugin;
 import newgen.decayregion.region.DecayRegion;
 import newgen.decayregion.region.RegionManager;
 import newgen.decayregion.util.BlockKey;
+import newgen.decayregion.util.ChunkKey;
+import newgen.decayregion.util.MessageUtil;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.block.PistonMoveReaction;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.Levelled;
 import org.bukkit.block.data.Waterlogged;
@@ -21,11 +26,13 @@ import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -42,12 +49,18 @@ public class BlockDecayManager {
     private final int maxFluidFloodBlocks;
 
     private final Set<BlockKey> trackedBlocks = ConcurrentHashMap.newKeySet();
-    private final Map<BlockKey, BukkitTask> activeDecayTasks = new ConcurrentHashMap<>();
+    private final Map<BlockKey, SolidDecayTask> activeDecayTasks = new ConcurrentHashMap<>();
+    private final Map<ChunkKey, Set<BlockKey>> activeByChunk = new ConcurrentHashMap<>();
+    private final Map<ChunkKey, List<ParkedBlock>> parkedBlocks = new HashMap<>();
+    private final Map<ChunkKey, List<ParkedFluid>> parkedFluids = new HashMap<>();
     private final Set<BlockKey> scheduledFluidSources = ConcurrentHashMap.newKeySet();
     private final Set<UUID> canTakeWater = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<BlockKey, Placement> placements = new ConcurrentHashMap<>();
     private final Map<BlockKey, Integer> breakSourceIds = new ConcurrentHashMap<>();
     private final AtomicInteger nextSourceId = new AtomicInteger(1);
     private final int defaultDecaySeconds;
+    private final double fullDetailDistanceSq;
+    private final double reducedDetailDistanceSq;
 
     public BlockDecayManager(
             DecayRegionPlugin plugin,
@@ -63,6 +76,11 @@ public class BlockDecayManager {
                 .getBoolean("decay.formed-blocks-only-from-tracked-fluids", true);
         this.maxFluidFloodBlocks = plugin.getCfg()
                 .getInt("decay.fluids.max-flood-blocks", 20000);
+
+        double full = plugin.getCfg().getDouble("decay.animation.full-detail-distance", 32.0);
+        double reduced = plugin.getCfg().getDouble("decay.animation.reduced-detail-distance", 64.0);
+        this.fullDetailDistanceSq = full > 0 ? full * full : 0;
+        this.reducedDetailDistanceSq = reduced > 0 ? reduced * reduced : 0;
     }
 
     private int getOrAssignSourceId(BlockKey key) {
@@ -93,40 +111,89 @@ public class BlockDecayManager {
     }
 
     private void resetBlockDamage(Location loc, int sourceId) {
-        for (Player p : Bukkit.getOnlinePlayers()) {
+        for (Player p : loc.getWorld().getPlayers()) {
             p.sendBlockDamage(loc, 0.0f, sourceId);
         }
     }
 
+    /**
+     * Sends one animation step with distance LOD: players within {@code full-detail-distance} see every step,
+     * players within {@code reduced-detail-distance} only the last step before the break, the rest nothing.
+     */
+    private void sendDecayProgress(SolidDecayTask task) {
+        float progress = (float) task.step / task.steps;
+        boolean lastStep = task.step == task.steps - 1;
+
+        for (Player p : task.loc.getWorld().getPlayers()) {
+            if (fullDetailDistanceSq > 0) {
+                double d = p.getLocation().distanceSquared(task.loc);
+                if (reducedDetailDistanceSq > 0 && d > reducedDetailDistanceSq) continue;
+                if (d > fullDetailDistanceSq && !lastStep) continue;
+            }
+            p.sendBlockDamage(task.loc, progress, task.sourceId);
+        }
+    }
+
     private void clearDecayAt(BlockKey key, Location loc) {
-        BukkitTask task = activeDecayTasks.remove(key);
-        if (task != null) task.cancel();
+        SolidDecayTask task = activeDecayTasks.remove(key);
+        if (task != null) {
+            task.cancel();
+            Set<BlockKey> keys = activeByChunk.get(key.getChunk());
+            if (keys != null) keys.remove(key);
+        }
 
         Integer sourceId = getSourceId(key);
         if (sourceId != null) resetBlockDamage(loc, sourceId);
 
         trackedBlocks.remove(key);
+        removePlacement(key);
         clearSourceId(key);
     }
 
-    public void handleBlockPlace(BlockPlaceEvent event) {
+    public void handleBlockPlace(BlockPlaceEvent event, DecayRegion region) {
         Block block = event.getBlockPlaced();
         Player player = event.getPlayer();
 
-        DecayRegion region = regionManager.getRegionAt(block.getLocation());
-        if (region == null || player.isOp()) return;
+        if (player.isOp()) return;
 
         Material type = block.getType();
         if (type == Material.WATER || type == Material.LAVA) return;
 
+        // refuse before any tracking state exists for the block
+        if (!plugin.getPlacementLimiter().tryPlace(player.getUniqueId(), region)) {
+            event.setCancelled(true);
+            MessageUtil.send(player, "&cYou are placing blocks too fast here, slow down.");
+            return;
+        }
+
         BlockKey key = BlockKey.fromBlock(block);
         clearDecayAt(key, block.getLocation());
 
         placedStore.recordBlock(region, block.getLocation());
         startSolidBlockDecay(block);
+        setPlacement(key, new Placement(player.getUniqueId(), region));
+    }
+
+    /** Who placed a tracked block and in which region; counts towards the placement limits. */
+    private record Placement(UUID placer, DecayRegion region) {}
+
+    private void setPlacement(BlockKey key, Placement placement) {
+        Placement old = placements.put(key, placement);
+        if (old != null) plugin.getPlacementLimiter().untracked(old.placer(), old.region());
+        plugin.getPlacementLimiter().tracked(placement.placer(), placement.region());
+    }
+
+    private void removePlacement(BlockKey key) {
+        Placement old = placements.remove(key);
+        if (old != null) plugin.getPlacementLimiter().untracked(old.placer(), old.region());
     }
 
-    public void handleBucketEmpty(PlayerBucketEmptyEvent event) {
+    private UUID placerOf(BlockKey key) {
+        Placement p = placements.get(key);
+        return p != null ? p.placer() : null;
+    }
+
+    public void handleBucketEmpty(PlayerBucketEmptyEvent event, DecayRegion region) {
         Block clicked = event.getBlockClicked();
         BlockFace face = event.getBlockFace();
         if (clicked == null || face == null) return;
@@ -138,24 +205,34 @@ public class BlockDecayManager {
             Material type = placedLoc.getBlock().getType();
             if (type != Material.WATER && type != Material.LAVA) return;
 
-            DecayRegion region = regionManager.getRegionAt(placedLoc);
-            if (region == null || player.isOp()) return;
+            if (player.isOp()) return;
 
             BlockKey key = BlockKey.fromBlock(placedLoc.getBlock());
             if (!scheduledFluidSources.add(key)) return;
 
             placedStore.recordFluidSource(region, placedLoc, type);
-
-            int seconds = region.getDecaySeconds();
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                floodClearFluid(region.getName(), placedLoc, type);
-                placedStore.removeFluidSource(region, placedLoc, type);
-                scheduledFluidSources.remove(key);
-            }, Math.max(1L, seconds * 20L));
+            scheduleFluidDecay(region, placedLoc, type, key, region.getDecaySeconds() * 20L);
         });
     }
 
-    private void floodClearFluid(String regionName, Location start, Material fluidType) {
+    private void scheduleFluidDecay(DecayRegion region, Location loc, Material type, BlockKey key, long delayTicks) {
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (!loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+                parkedFluids.computeIfAbsent(ChunkKey.fromLocation(loc), c -> new ArrayList<>())
+                        .add(new ParkedFluid(region, loc, type, key));
+                return;
+            }
+            if (plugin.getDecayGovernor().isFluidClearPaused()) {
+                scheduleFluidDecay(region, loc, type, key, 20L);
+                return;
+            }
+            floodClearFluid(region.getId(), loc, type);
+            placedStore.removeFluidSource(region, loc, type);
+            scheduledFluidSources.remove(key);
+        }, Math.max(1L, delayTicks));
+    }
+
+    private void floodClearFluid(int regionId, Location start, Material fluidType) {
         if (start == null || start.getWorld() == null) return;
 
         Deque<Block> queue = new ArrayDeque<>();
@@ -170,7 +247,7 @@ public class BlockDecayManager {
             if (!visited.add(k)) continue;
 
             DecayRegion region = regionManager.getRegionAt(b.getLocation());
-            if (region == null || !region.getName().equalsIgnoreCase(regionName)) continue;
+            if (region == null || region.getId() != regionId) continue;
             if (b.getType() != fluidType) continue;
 
             b.setType(Material.AIR, false);
@@ -186,50 +263,367 @@ public class BlockDecayManager {
     }
 
     private void startSolidBlockDecay(Block block) {
-        Material original = block.getType();
+        startSolidBlockDecay(block, (long) getDecaySecondsAt(block.getLocation()) * 20L);
+    }
+
+    private void startSolidBlockDecay(Block block, long totalTicks) {
         BlockKey key = BlockKey.fromBlock(block);
         Location loc = block.getLocation();
 
         clearDecayAt(key, loc);
         trackedBlocks.add(key);
 
-        int decaySeconds = getDecaySecondsAt(loc);
-        int steps = 5;
-        long interval = Math.max(1L, (long) decaySeconds * 20L / steps);
+        DecayRegion region = regionManager.getRegionAt(loc);
+        int steps = region != null ? region.getAnimationSteps() : regionManager.getDefaultAnimationSteps();
 
-        int sourceId = getOrAssignSourceId(key);
+        SolidDecayTask task = new SolidDecayTask(block, key, steps, totalTicks);
+        task.runTaskTimer(plugin, task.interval, task.interval);
 
-        BukkitTask task = new BukkitRunnable() {
-            int step = 0;
+        activeDecayTasks.put(key, task);
+        activeByChunk.computeIfAbsent(key.getChunk(), c -> ConcurrentHashMap.newKeySet()).add(key);
+    }
 
-            @Override
-            public void run() {
-                if (!regionManager.isInAnyRegion(loc) || block.getType() != original) {
-                    clearDecayAt(key, loc);
-                    cancel();
-                    return;
+    /**
+     * Restarts the timer of an already tracked block (chunk load, resume) without losing who placed it;
+     * {@link #startSolidBlockDecay(Block, long)} on its own clears the placement along with the old timer.
+     */
+    private void rearmSolidBlockDecay(Block block, long totalTicks) {
+        BlockKey key = BlockKey.fromBlock(block);
+        Placement placement = placements.get(key);
+        startSolidBlockDecay(block, totalTicks);
+        if (placement != null) setPlacement(key, placement);
+    }
+
+    /**
+     * Decay timer of one block: {@code steps} animation steps spread over the decay time, then the break.
+     * With 0 animation steps it is a single deadline and no packets are sent.
+     */
+    private class SolidDecayTask extends BukkitRunnable {
+
+        final Block block;
+        final BlockKey key;
+        final Location loc;
+        final Material original;
+        final int steps;
+        final boolean animated;
+        final long interval;
+        final int sourceId;
+        int step = 0;
+        boolean stretched;
+
+        SolidDecayTask(Block block, BlockKey key, int animationSteps, long totalTicks) {
+            this.block = block;
+            this.key = key;
+            this.loc = block.getLocation();
+            this.original = block.getType();
+            this.animated = animationSteps > 0;
+            this.steps = Math.max(1, animationSteps);
+            this.interval = Math.max(1L, totalTicks / steps);
+            this.sourceId = animated ? getOrAssignSourceId(key) : -1;
+        }
+
+        long remainingTicks() {
+            return (steps - step) * interval;
+        }
+
+        @Override
+        public void run() {
+            // never load a chunk from a timer; park the block until the chunk comes back
+            if (!loc.getWorld().isChunkLoaded(key.getX() >> 4, key.getZ() >> 4)) {
+                park(this);
+                return;
+            }
+
+            if (!regionManager.isInAnyRegion(loc) || block.getType() != original) {
+                clearDecayAt(key, loc);
+                cancel();
+                return;
+            }
+
+            DecayGovernor governor = plugin.getDecayGovernor();
+            // under load every step takes two intervals
+            if (governor.isStretchingDecay() && (stretched = !stretched)) return;
+
+            step++;
+            if (step < steps) {
+                if (animated && governor.shouldAnimate(step)) sendDecayProgress(this);
+                return;
+            }
+
+            cancel();
+            governor.complete(this::finish);
+        }
+
+        private void finish() {
+            // cleared, parked or replaced while the completion waited for budget
+            if (activeDecayTasks.get(key) != this) return;
+
+            if (!loc.getWorld().isChunkLoaded(key.getX() >> 4, key.getZ() >> 4)) {
+                park(this);
+                return;
+            }
+            if (block.getType() != original) {
+                clearDecayAt(key, loc);
+                return;
+            }
+
+            if (animated) resetBlockDamage(loc, sourceId);
+
+            DecayRegion r = regionManager.getRegionAt(loc);
+            plugin.getDropAggregator().breakBlock(r, block, placerOf(key));
+            if (r != null) placedStore.removeBlock(r, loc);
+
+            clearDecayAt(key, loc);
+        }
+    }
+
+    // =========================
+    // CHUNK PARKING
+    // =========================
+
+    /** {@code original} is null for blocks resumed after a restart: whatever non-air block is there. */
+    private record ParkedBlock(BlockKey key, Material original, long deadline) {}
+
+    private record ParkedFluid(DecayRegion region, Location loc, Material type, BlockKey key) {}
+
+    private void park(SolidDecayTask task) {
+        activeDecayTasks.remove(task.key, task);
+        Set<BlockKey> keys = activeByChunk.get(task.key.getChunk());
+        if (keys != null) keys.remove(task.key);
+        task.cancel();
+
+        long deadline = System.currentTimeMillis() + task.remainingTicks() * 50L;
+        parkedBlocks.computeIfAbsent(task.key.getChunk(), c -> new ArrayList<>())
+                .add(new ParkedBlock(task.key, task.original, deadline));
+    }
+
+    /**
+     * Stops the decay timers of an unloading chunk; their remaining time is kept until it loads again.
+     */
+    public void onChunkUnload(Chunk chunk) {
+        Set<BlockKey> keys = activeByChunk.remove(ChunkKey.fromChunk(chunk));
+        if (keys == null) return;
+
+        for (BlockKey key : keys) {
+            SolidDecayTask task = activeDecayTasks.get(key);
+            if (task != null) park(task);
+        }
+    }
+
+    /**
+     * Re-arms (or expires, when their time ran out meanwhile) everything parked in a chunk that just loaded.
+     * The work runs on the next tick, outside the load event.
+     */
+    public void onChunkLoad(Chunk chunk) {
+        ChunkKey chunkKey = ChunkKey.fromChunk(chunk);
+        List<ParkedBlock> blocks = parkedBlocks.remove(chunkKey);
+        List<ParkedFluid> fluids = parkedFluids.remove(chunkKey);
+        if (blocks == null && fluids == null) return;
+
+        World world = chunk.getWorld();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            long now = System.currentTimeMillis();
+
+            if (blocks != null) {
+                for (ParkedBlock p : blocks) {
+                    Block block = world.getBlockAt(p.key().getX(), p.key().getY(), p.key().getZ());
+                    Location loc = block.getLocation();
+                    long remainingTicks = (p.deadline() - now) / 50L;
+
+                    boolean replaced = p.original() == null ? block.getType().isAir() : block.getType() != p.original();
+                    if (replaced) {
+                        clearDecayAt(p.key(), loc);
+                        DecayRegion r = regionManager.getRegionAt(loc);
+                        if (r != null) placedStore.removeBlock(r, loc);
+                    } else if (remainingTicks <= 0) {
+                        plugin.getDecayGovernor().complete(() -> {
+                            if (!trackedBlocks.contains(p.key()) || block.getType().isAir()) return;
+                            DecayRegion r = regionManager.getRegionAt(loc);
+                            plugin.getDropAggregator().breakBlock(r, block, placerOf(p.key()));
+                            if (r != null) placedStore.removeBlock(r, loc);
+                            clearDecayAt(p.key(), loc);
+                        });
+                    } else {
+                        rearmSolidBlockDecay(block, remainingTicks);
+                    }
                 }
+            }
 
-                step++;
-                float progress = (float) step / steps;
-                for (Player p : Bukkit.getOnlinePlayers()) {
-                    p.sendBlockDamage(loc, progress, sourceId);
+            if (fluids != null) {
+                for (ParkedFluid p : fluids) {
+                    floodClearFluid(p.region().getId(), p.loc(), p.type());
+                    placedStore.removeFluidSource(p.region(), p.loc(), p.type());
+                    scheduledFluidSources.remove(p.key());
                 }
+            }
+        });
+    }
 
-                if (step >= steps) {
-                    resetBlockDamage(loc, sourceId);
-                    block.breakNaturally();
+    // =========================
+    // RESUME AFTER RESTART
+    // =========================
+
+    /**
+     * Re-arms a block or fluid source tracked before the restart, or expires it right away when its
+     * deadline already passed. Items whose region no longer exists are simply cleared.
+     */
+    public void resume(PlacedDataStore.Leftover item, long nowMillis) {
+        World world = Bukkit.getWorld(item.world());
+        if (world == null) return;
+
+        DecayRegion region = regionManager.getRegion(item.region());
+        if (region == null) {
+            placedStore.clearLeftovers(world, List.of(item));
+            return;
+        }
 
-                    DecayRegion r = regionManager.getRegionAt(loc);
-                    if (r != null) placedStore.removeBlock(r, loc);
+        Location loc = new Location(world, item.x(), item.y(), item.z());
+        long remainingTicks = (item.deadline() - nowMillis) / 50L;
+        ChunkKey chunkKey = ChunkKey.fromLocation(loc);
 
-                    clearDecayAt(key, loc);
-                    cancel();
-                }
+        // leave unloaded chunks alone, they are handled when they load
+        if (!world.isChunkLoaded(item.x() >> 4, item.z() >> 4)) {
+            BlockKey key = BlockKey.fromLocation(loc);
+            if (item.fluid() != null) {
+                if (scheduledFluidSources.add(key)) scheduleFluidDecay(region, loc, item.fluid(), key, remainingTicks);
+            } else {
+                trackedBlocks.add(key);
+                parkedBlocks.computeIfAbsent(chunkKey, c -> new ArrayList<>())
+                        .add(new ParkedBlock(key, null, item.deadline()));
             }
-        }.runTaskTimer(plugin, interval, interval);
+            return;
+        }
 
-        activeDecayTasks.put(key, task);
+        if (item.fluid() != null) {
+            BlockKey key = BlockKey.fromBlock(loc.getBlock());
+            if (remainingTicks <= 0) {
+                floodClearFluid(region.getId(), loc, item.fluid());
+                placedStore.removeFluidSource(region, loc, item.fluid());
+            } else if (scheduledFluidSources.add(key)) {
+                scheduleFluidDecay(region, loc, item.fluid(), key, remainingTicks);
+            }
+            return;
+        }
+
+        Block block = loc.getBlock();
+        if (block.getType().isAir()) {
+            placedStore.removeBlock(region, loc);
+        } else if (remainingTicks <= 0) {
+            plugin.getDropAggregator().breakBlock(region, block, null);
+            placedStore.removeBlock(region, loc);
+        } else {
+            rearmSolidBlockDecay(block, remainingTicks);
+        }
+    }
+
+    /**
+     * Drops tracking for every tracked block an explosion destroys: one pass over the block list, timers
+     * cancelled together and one batched delete, instead of letting each timer find a type mismatch later.
+     */
+    public void handleExplosion(List<Block> blocks) {
+        if (blocks.isEmpty() || trackedBlocks.isEmpty()) return;
+
+        World world = blocks.get(0).getWorld();
+        List<BlockKey> hit = new ArrayList<>();
+
+        for (Block block : blocks) {
+            if (!regionManager.isRegionChunk(block)) continue;
+            BlockKey key = BlockKey.fromBlock(block);
+            if (trackedBlocks.remove(key)) hit.add(key);
+        }
+        if (hit.isEmpty()) return;
+
+        // the blocks turn to air, which also ends their crack animation client-side
+        for (BlockKey key : hit) dropTimer(key);
+
+        placedStore.removeBlocks(world, hit);
+    }
+
+    /**
+     * Cancels a block's timer and per-block state, leaving {@code trackedBlocks} and the animation alone.
+     */
+    private void dropTimer(BlockKey key) {
+        SolidDecayTask task = activeDecayTasks.remove(key);
+        if (task != null) {
+            task.cancel();
+            Set<BlockKey> keys = activeByChunk.get(key.getChunk());
+            if (keys != null) keys.remove(key);
+        }
+        removePlacement(key);
+        clearSourceId(key);
+    }
+
+    // ticks until pushed blocks settle at their new position (piston animation)
+    private static final long PISTON_SETTLE_TICKS = 3L;
+
+    private record PistonMove(BlockKey to, Material original, long remainingTicks, UUID placer, DecayRegion region) {}
+
+    /**
+     * Moves the tracking of blocks pushed or pulled by a piston to their new positions with the remaining
+     * time kept. Old timers are dropped at once and the rows are re-keyed in one batch; the new timers start
+     * once the blocks have settled.
+     */
+    public void handlePistonMove(List<Block> blocks, BlockFace direction) {
+        if (blocks.isEmpty() || trackedBlocks.isEmpty()) return;
+
+        World world = blocks.get(0).getWorld();
+        int dx = direction.getModX(), dy = direction.getModY(), dz = direction.getModZ();
+
+        List<PistonMove> moves = new ArrayList<>();
+        List<PlacedDataStore.BlockMove> rows = new ArrayList<>();
+        List<BlockKey> broken = new ArrayList<>();
+
+        // remove every old key first: moved blocks can land on each other's previous position
+        for (Block block : blocks) {
+            if (!regionManager.isRegionChunk(block)) continue;
+            BlockKey from = BlockKey.fromBlock(block);
+            if (!trackedBlocks.remove(from)) continue;
+
+            // destroyed by the piston, not moved
+            if (block.getPistonMoveReaction() == PistonMoveReaction.BREAK) {
+                dropTimer(from);
+                broken.add(from);
+                continue;
+            }
+
+            SolidDecayTask task = activeDecayTasks.get(from);
+            long remaining = task != null ? task.remainingTicks() : (long) getDecaySecondsAt(block.getLocation()) * 20L;
+            Material original = task != null ? task.original : block.getType();
+            UUID placer = placerOf(from);
+            dropTimer(from);
+
+            BlockKey to = new BlockKey(world, from.getX() + dx, from.getY() + dy, from.getZ() + dz);
+            DecayRegion region = regionManager.getRegionAt(new Location(world, to.getX(), to.getY(), to.getZ()));
+
+            moves.add(new PistonMove(to, original, remaining, placer, region));
+            rows.add(new PlacedDataStore.BlockMove(from, to, region,
+                    System.currentTimeMillis() + remaining * 50L, dx * from.getX() + dy * from.getY() + dz * from.getZ()));
+        }
+        // before the moves: a pushed block may take a broken block's position
+        if (!broken.isEmpty()) placedStore.removeBlocks(world, broken);
+        if (moves.isEmpty()) return;
+
+        // pushed out of every region: no longer ours to decay
+        for (PistonMove m : moves) {
+            if (m.region() != null) trackedBlocks.add(m.to());
+        }
+        placedStore.moveBlocks(world, rows);
+
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            for (PistonMove m : moves) {
+                if (m.region() == null || !trackedBlocks.contains(m.to())) continue;
+
+                Block block = world.getBlockAt(m.to().getX(), m.to().getY(), m.to().getZ());
+                if (block.getType() != m.original()) {
+                    trackedBlocks.remove(m.to());
+                    placedStore.removeBlock(m.region(), block.getLocation());
+                    continue;
+                }
+
+                startSolidBlockDecay(block, Math.max(1L, m.remainingTicks() - PISTON_SETTLE_TICKS));
+                if (m.placer() != null) setPlacement(m.to(), new Placement(m.placer(), m.region()));
+            }
+        }, PISTON_SETTLE_TICKS);
     }
 
     public void handleBlockForm(BlockFormEvent event) {
@@ -294,13 +688,7 @@ public class BlockDecayManager {
             if (!scheduledFluidSources.add(key)) return;
 
             placedStore.recordFluidSource(region, toLoc, Material.WATER);
-
-            int seconds = region.getDecaySeconds();
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                floodClearFluid(region.getName(), toLoc, Material.WATER);
-                placedStore.removeFluidSource(region, toLoc, Material.WATER);
-                scheduledFluidSources.remove(key);
-            }, Math.max(1L, seconds * 20L));
+            scheduleFluidDecay(region, toLoc, Material.WATER, key, region.getDecaySeconds() * 20L);
         });
     }
 
@@ -322,24 +710,22 @@ public class BlockDecayManager {
         }
     }
 
-    public void handleBucketFill(PlayerBucketFillEvent event) {
+    public void handleBucketFill(PlayerBucketFillEvent event, DecayRegion region) {
         Player player = event.getPlayer();
         Block block = event.getBlockClicked();
 
-        if (!regionManager.isInAnyRegion(block.getLocation())) return;
-        if (player.isOp()) return;
+        if (region == null || player.isOp()) return;
 
         if (isWaterlogged(block)) {
             canTakeWater.add(player.getUniqueId());
         }
     }
 
-    public void handleBlockBreak(BlockBreakEvent event) {
+    public void handleBlockBreak(BlockBreakEvent event, DecayRegion region) {
         Block block = event.getBlock();
         Player player = event.getPlayer();
 
-        if (!regionManager.isInAnyRegion(block.getLocation())) return;
-        if (player.isOp()) return;
+        if (region == null || player.isOp()) return;
 
         Material type = block.getType();
         BlockKey key = BlockKey.fromBlock(block);
@@ -356,9 +742,7 @@ public class BlockDecayManager {
                 }
             } else {
                 clearDecayAt(key, block.getLocation());
-
-                DecayRegion r = regionManager.getRegionAt(block.getLocation());
-                if (r != null) placedStore.removeBlock(r, block.getLocation());
+                placedStore.removeBlock(region, block.getLocation());
             }
         }
     }
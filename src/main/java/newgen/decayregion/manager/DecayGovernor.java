@@ -0,0 +1,129 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Load shedding for decay work. Caps decay completions per tick ({@code load-shedding.completions-per-tick},
+ * the overflow runs on later ticks) and derives a throttle level from the server's average tick time (MSPT):
+ * 1 = every other animation step, 2 = no intermediate animation and doubled decay intervals,
+ * 3 = also pause fluid clears.
+ * Main thread only.
+ */
+public class DecayGovernor {
+
+    public static final int LEVEL_NORMAL = 0;
+    public static final int LEVEL_THIN_ANIMATION = 1;
+    public static final int LEVEL_STRETCH_DECAY = 2;
+    public static final int LEVEL_PAUSE_FLUIDS = 3;
+
+    private static final int SAMPLE_TICKS = 20;
+
+    private final DecayRegionPlugin plugin;
+    private final Deque<Runnable> deferred = new ArrayDeque<>();
+
+    private BukkitTask task;
+    private int completionsPerTick;
+    private double[] thresholds;
+
+    private int budget;
+    private int level;
+    private double mspt;
+    private int sampleIn;
+    private long deferredTotal;
+
+    public DecayGovernor(DecayRegionPlugin plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public void reload() {
+        completionsPerTick = plugin.getCfg().getInt("load-shedding.completions-per-tick", 200);
+        thresholds = new double[]{
+                plugin.getCfg().getDouble("load-shedding.thin-animation-mspt", 40.0),
+                plugin.getCfg().getDouble("load-shedding.stretch-decay-mspt", 45.0),
+                plugin.getCfg().getDouble("load-shedding.pause-fluids-mspt", 50.0)
+        };
+    }
+
+    public void start() {
+        if (task != null) return;
+        budget = completionsPerTick;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    private void tick() {
+        budget = completionsPerTick;
+        while (!deferred.isEmpty() && hasBudget()) {
+            budget--;
+            deferred.poll().run();
+        }
+
+        if (--sampleIn <= 0) {
+            sampleIn = SAMPLE_TICKS;
+            sample();
+        }
+    }
+
+    private void sample() {
+        // time actually spent per tick; TPS can't be used here, it never reads above 20 (= 50 ms)
+        mspt = Bukkit.getAverageTickTime();
+
+        int next = LEVEL_NORMAL;
+        for (int i = 0; i < thresholds.length; i++) {
+            if (thresholds[i] > 0 && mspt >= thresholds[i]) next = i + 1;
+        }
+
+        if (next != level) {
+            plugin.getLogger().info("[Governor] Throttle level " + level + " -> " + next
+                    + " (MSPT " + String.format("%.1f", mspt) + ", deferred " + deferred.size() + ").");
+            level = next;
+        }
+    }
+
+    private boolean hasBudget() {
+        return completionsPerTick <= 0 || budget > 0;
+    }
+
+    /**
+     * Runs a decay completion now when this tick still has budget, otherwise on a later tick.
+     * The completion must re-check its block, it can run ticks after it was submitted.
+     */
+    public void complete(Runnable completion) {
+        if (task == null || (deferred.isEmpty() && hasBudget())) {
+            budget--;
+            completion.run();
+            return;
+        }
+        deferred.add(completion);
+        deferredTotal++;
+    }
+
+    /** Whether the animation packet of this step is sent at the current level. */
+    public boolean shouldAnimate(int step) {
+        if (level >= LEVEL_STRETCH_DECAY) return false;
+        return level < LEVEL_THIN_ANIMATION || step % 2 == 0;
+    }
+
+    public boolean isStretchingDecay() {
+        return level >= LEVEL_STRETCH_DECAY;
+    }
+
+    public boolean isFluidClearPaused() {
+        return level >= LEVEL_PAUSE_FLUIDS;
+    }
+
+    public int getLevel() { return level; }
+    public double getMspt() { return mspt; }
+    public int getDeferred() { return deferred.size(); }
+    public long getDeferredTotal() { return deferredTotal; }
+}
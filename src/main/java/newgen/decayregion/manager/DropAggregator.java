@@ -0,0 +1,187 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.region.DropPolicy;
+import newgen.decayregion.util.ChunkKey;
+import org.bukkit.Bukkit;
+import org.bukkit.Effect;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Breaks decayed blocks according to their region's {@link DropPolicy}. Merged drops are collected per chunk
+ * and spawned once at the end of the tick, split into full stacks. Keeps counters for {@code /decay stats}.
+ * Main thread only.
+ */
+public class DropAggregator {
+
+    private static class Pending {
+        final Location loc;
+        final List<ItemStack> stacks = new ArrayList<>();
+
+        Pending(Location loc) {
+            this.loc = loc;
+        }
+    }
+
+    private final DecayRegionPlugin plugin;
+    private final Map<ChunkKey, Pending> pending = new HashMap<>();
+    private boolean flushScheduled;
+    // merged item entities spawned by decay; weak, so picked-up/despawned/unloaded ones can be collected
+    private final Set<Item> spawned = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private long blocksBroken;
+    private long itemEntities;
+    private long itemsMerged;
+    private long itemsReturned;
+    private long voidedBlocks;
+    private long costNanos;
+
+    public DropAggregator(DecayRegionPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Sets the block to air and handles its drops. {@code placer} may be null (e.g. resumed after a restart).
+     */
+    public void breakBlock(DecayRegion region, Block block, UUID placer) {
+        long start = System.nanoTime();
+        DropPolicy policy = region != null ? region.getDropPolicy() : DropPolicy.NATURAL;
+        blocksBroken++;
+
+        if (policy == DropPolicy.NONE) {
+            voidedBlocks++;
+            block.setType(Material.AIR);
+            costNanos += System.nanoTime() - start;
+            return;
+        }
+
+        if (policy == DropPolicy.NATURAL) {
+            block.breakNaturally();
+            costNanos += System.nanoTime() - start;
+            return;
+        }
+
+        // breakNaturally() would spill container contents and play the break effect; do both by hand here
+        // (shulker boxes already carry their contents in their own drop)
+        List<ItemStack> drops = new ArrayList<>(block.getDrops());
+        BlockState state = block.getState();
+        if (state instanceof InventoryHolder holder && !(state instanceof ShulkerBox)) {
+            for (ItemStack content : holder.getInventory().getContents()) {
+                if (content != null && content.getType() != Material.AIR) drops.add(content.clone());
+            }
+        }
+        Location loc = block.getLocation().add(0.5, 0.5, 0.5);
+        block.getWorld().playEffect(block.getLocation(), Effect.STEP_SOUND, block.getType());
+        block.setType(Material.AIR);
+
+        switch (policy) {
+            case RETURN -> {
+                Player player = placer != null ? Bukkit.getPlayer(placer) : null;
+                if (player != null && player.isOnline()) {
+                    for (ItemStack drop : drops) {
+                        int amount = drop.getAmount();
+                        Collection<ItemStack> overflow = player.getInventory().addItem(drop).values();
+                        for (ItemStack rest : overflow) amount -= rest.getAmount();
+                        itemsReturned += amount;
+                        for (ItemStack rest : overflow) merge(loc, rest);
+                    }
+                } else {
+                    for (ItemStack drop : drops) merge(loc, drop);
+                }
+            }
+            default -> {
+                for (ItemStack drop : drops) merge(loc, drop);
+            }
+        }
+        costNanos += System.nanoTime() - start;
+    }
+
+    private void merge(Location loc, ItemStack drop) {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+
+        Pending p = pending.computeIfAbsent(ChunkKey.fromLocation(loc), c -> new Pending(loc));
+        itemsMerged += drop.getAmount();
+
+        for (ItemStack stack : p.stacks) {
+            if (stack.isSimilar(drop)) {
+                stack.setAmount(stack.getAmount() + drop.getAmount());
+                return;
+            }
+        }
+        p.stacks.add(drop.clone());
+    }
+
+    /**
+     * Spawns the merged drops of this tick: one item entity per full stack per chunk.
+     */
+    public void flush() {
+        long start = System.nanoTime();
+        flushScheduled = false;
+
+        for (Pending p : pending.values()) {
+            World world = p.loc.getWorld();
+            if (world == null) continue;
+
+            for (ItemStack stack : p.stacks) {
+                int left = stack.getAmount();
+                int max = Math.max(1, stack.getMaxStackSize());
+                while (left > 0) {
+                    ItemStack part = stack.clone();
+                    part.setAmount(Math.min(max, left));
+                    left -= part.getAmount();
+                    spawned.add(world.dropItem(p.loc, part));
+                    itemEntities++;
+                }
+            }
+        }
+        pending.clear();
+        costNanos += System.nanoTime() - start;
+    }
+
+    public long getBlocksBroken() { return blocksBroken; }
+    public long getItemEntities() { return itemEntities; }
+
+    /**
+     * Merged decay drops currently alive in loaded chunks (each one ticks until picked up or despawned).
+     * {@link DropPolicy#NATURAL} drops come from {@link Block#breakNaturally()} and are not counted.
+     */
+    public int getLiveItemEntities() {
+        spawned.removeIf(item -> !item.isValid());
+        return spawned.size();
+    }
+    public long getItemsMerged() { return itemsMerged; }
+    public long getItemsReturned() { return itemsReturned; }
+    public long getVoidedBlocks() { return voidedBlocks; }
+
+    /** Average main-thread cost of breaking a decayed block and handling its drops, in microseconds. */
+    public double getAverageMicros() {
+        return blocksBroken == 0 ? 0.0 : costNanos / 1000.0 / blocksBroken;
+    }
+
+    public long getTotalMillis() {
+        return costNanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,172 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.util.ChunkKey;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory index of tracked (decaying) entities: for each one its region, world, last known chunk and
+ * deadline, plus the reverse chunk -> entities map. Lets expiry find an entity with one direct lookup
+ * and tells whether its chunk is loaded at all. Main thread only.
+ */
+public class EntityRegistry {
+
+    public static class Tracked {
+        private final UUID uuid;
+        private final int region;
+        private ChunkKey chunk;
+        private long deadline;
+
+        Tracked(UUID uuid, int region, ChunkKey chunk, long deadline) {
+            this.uuid = uuid;
+            this.region = region;
+            this.chunk = chunk;
+            this.deadline = deadline;
+        }
+
+        public UUID getUuid() { return uuid; }
+        public int getRegion() { return region; }
+        public ChunkKey getChunk() { return chunk; }
+        public long getDeadline() { return deadline; }
+    }
+
+    private final Map<UUID, Tracked> byId = new HashMap<>();
+    private final Map<ChunkKey, Set<UUID>> byChunk = new HashMap<>();
+
+    public Tracked track(int region, UUID uuid, ChunkKey chunk, long deadline) {
+        untrack(uuid);
+
+        Tracked t = new Tracked(uuid, region, chunk, deadline);
+        byId.put(uuid, t);
+        if (chunk != null) byChunk.computeIfAbsent(chunk, c -> new HashSet<>()).add(uuid);
+        return t;
+    }
+
+    public Tracked track(int region, Entity entity, long deadline) {
+        return track(region, entity.getUniqueId(), ChunkKey.fromLocation(entity.getLocation()), deadline);
+    }
+
+    public void untrack(UUID uuid) {
+        Tracked t = byId.remove(uuid);
+        if (t != null && t.chunk != null) removeFromChunk(t.chunk, uuid);
+    }
+
+    public Tracked get(UUID uuid) {
+        return byId.get(uuid);
+    }
+
+    public boolean isTracked(UUID uuid) {
+        return byId.containsKey(uuid);
+    }
+
+    /**
+     * Updates the last known chunk; returns true when it changed.
+     */
+    public boolean move(Entity entity) {
+        Tracked t = byId.get(entity.getUniqueId());
+        if (t == null) return false;
+
+        ChunkKey now = ChunkKey.fromLocation(entity.getLocation());
+        if (now.equals(t.chunk)) return false;
+
+        if (t.chunk != null) removeFromChunk(t.chunk, t.uuid);
+        t.chunk = now;
+        byChunk.computeIfAbsent(now, c -> new HashSet<>()).add(t.uuid);
+        return true;
+    }
+
+    public void setDeadline(UUID uuid, long deadline) {
+        Tracked t = byId.get(uuid);
+        if (t != null) t.deadline = deadline;
+    }
+
+    public Set<UUID> inChunk(ChunkKey chunk) {
+        Set<UUID> set = byChunk.get(chunk);
+        return set != null ? Collections.unmodifiableSet(set) : Collections.emptySet();
+    }
+
+    /**
+     * True when the entity's last known chunk is loaded, i.e. {@link #find} can give a definite answer.
+     */
+    public boolean isLoaded(Tracked t) {
+        if (t.chunk == null) return true;
+        World world = Bukkit.getWorld(t.chunk.getWorld());
+        return world != null && world.isChunkLoaded(t.chunk.getX(), t.chunk.getZ());
+    }
+
+    /**
+     * Direct lookup in the entity's own world; falls back to scanning worlds for entries without a chunk.
+     */
+    public Entity find(UUID uuid) {
+        Tracked t = byId.get(uuid);
+        if (t != null && t.chunk != null) {
+            World world = Bukkit.getWorld(t.chunk.getWorld());
+            return world != null ? world.getEntity(uuid) : null;
+        }
+
+        for (World w : Bukkit.getWorlds()) {
+            Entity e = w.getEntity(uuid);
+            if (e != null) return e;
+        }
+        return null;
+    }
+
+    public List<Tracked> inRegion(int region) {
+        List<Tracked> out = new ArrayList<>();
+        for (Tracked t : byId.values()) {
+            if (t.region == region) out.add(t);
+        }
+        return out;
+    }
+
+    public Map<ChunkKey, List<Tracked>> groupByChunk(Collection<Tracked> tracked) {
+        Map<ChunkKey, List<Tracked>> out = new LinkedHashMap<>();
+        for (Tracked t : tracked) out.computeIfAbsent(t.chunk, c -> new ArrayList<>()).add(t);
+        return out;
+    }
+
+    /**
+     * Finds the given entities with one pass over their (loaded) chunk's entity list; anything that
+     * moved out of the chunk since it was last seen falls back to {@link #find}.
+     */
+    public Map<UUID, Entity> resolve(ChunkKey chunk, Collection<Tracked> tracked) {
+        Map<UUID, Entity> out = new HashMap<>();
+        World world = chunk != null ? Bukkit.getWorld(chunk.getWorld()) : null;
+
+        if (world != null && world.isChunkLoaded(chunk.getX(), chunk.getZ())) {
+            Set<UUID> wanted = new HashSet<>();
+            for (Tracked t : tracked) wanted.add(t.uuid);
+
+            for (Entity e : world.getChunkAt(chunk.getX(), chunk.getZ()).getEntities()) {
+                if (wanted.contains(e.getUniqueId())) out.put(e.getUniqueId(), e);
+            }
+        }
+
+        for (Tracked t : tracked) {
+            if (!out.containsKey(t.uuid)) {
+                Entity e = find(t.uuid);
+                if (e != null) out.put(t.uuid, e);
+            }
+        }
+        return out;
+    }
+
+    private void removeFromChunk(ChunkKey chunk, UUID uuid) {
+        Set<UUID> set = byChunk.get(chunk);
+        if (set == null) return;
+        set.remove(uuid);
+        if (set.isEmpty()) byChunk.remove(chunk);
+    }
+}
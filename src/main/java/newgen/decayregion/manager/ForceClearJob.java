@@ -0,0 +1,115 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Force-clear of one region as a single pass in chunk order. Each tick clears whole chunks up to
+ * {@code force-clear.blocks-per-tick} / {@code force-clear.millis-per-tick}, while the next
+ * {@code force-clear.preload-chunks} chunks are loaded ahead with {@code getChunkAtAsync}. Main thread only.
+ */
+public class ForceClearJob extends BukkitRunnable {
+
+    public record ChunkGroup(String world, int cx, int cz, List<PlacedDataStore.Leftover> items) {}
+
+    private final DecayRegionPlugin plugin;
+    private final PlacedDataStore placedDataStore;
+    private final String region;
+    private final List<ChunkGroup> groups;
+    private final Runnable done;
+
+    private final Map<String, World> worlds = new HashMap<>();
+    private final Map<Integer, CompletableFuture<Chunk>> preloading = new HashMap<>();
+
+    private final int blocksPerTick;
+    private final long nanosPerTick;
+    private final int preloadAhead;
+
+    private int cursor;
+    private int cleared;
+
+    ForceClearJob(DecayRegionPlugin plugin, PlacedDataStore placedDataStore, String region,
+                  List<ChunkGroup> groups, Runnable done) {
+        this.plugin = plugin;
+        this.placedDataStore = placedDataStore;
+        this.region = region;
+        this.groups = groups;
+        this.done = done;
+
+        this.blocksPerTick = Math.max(1, plugin.getCfg().getInt("force-clear.blocks-per-tick", 5000));
+        this.nanosPerTick = Math.max(1L, plugin.getCfg().getLong("force-clear.millis-per-tick", 10L)) * 1_000_000L;
+        this.preloadAhead = Math.max(0, plugin.getCfg().getInt("force-clear.preload-chunks", 8));
+    }
+
+    void start() {
+        if (groups.isEmpty()) {
+            finish();
+            return;
+        }
+        runTaskTimer(plugin, 1L, 1L);
+    }
+
+    @Override
+    public void run() {
+        long deadline = System.nanoTime() + nanosPerTick;
+        int budget = blocksPerTick;
+
+        preload();
+
+        while (cursor < groups.size() && budget > 0 && System.nanoTime() < deadline) {
+            ChunkGroup g = groups.get(cursor);
+            World world = world(g.world());
+
+            if (world != null) {
+                CompletableFuture<Chunk> pending = preloading.get(cursor);
+                // wait for the async load rather than loading the chunk on the main thread
+                if (!world.isChunkLoaded(g.cx(), g.cz()) && pending != null && !pending.isDone()) break;
+
+                placedDataStore.clearLeftovers(world, g.items());
+                budget -= g.items().size();
+                cleared += g.items().size();
+            }
+
+            preloading.remove(cursor);
+            cursor++;
+        }
+
+        if (cursor >= groups.size()) {
+            cancel();
+            finish();
+        }
+    }
+
+    private void preload() {
+        for (int i = cursor; i < groups.size() && i < cursor + preloadAhead; i++) {
+            if (preloading.containsKey(i)) continue;
+
+            ChunkGroup g = groups.get(i);
+            World world = world(g.world());
+            if (world == null || world.isChunkLoaded(g.cx(), g.cz())) continue;
+
+            preloading.put(i, world.getChunkAtAsync(g.cx(), g.cz()));
+        }
+    }
+
+    private World world(String name) {
+        return worlds.computeIfAbsent(name, Bukkit::getWorld);
+    }
+
+    private void finish() {
+        if (cleared > 0) {
+            plugin.getLogger().info("[ForceClear] " + region + ": cleared " + cleared + " blocks/fluids in "
+                    + groups.size() + " chunks.");
+        }
+        placedDataStore.flushIfDirty();
+        if (done != null) done.run();
+    }
+}
@@ -0,0 +1,193 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.util.ChunkKey;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Startup force-clear without the world sweep ({@code force-clear.mode: lazy}). Leftovers from the last run
+ * are indexed by chunk; a chunk is cleared when it loads, and a background trickle loads the remaining
+ * chunks with {@code getChunkAtAsync}. Leftover entities are removed when their chunk's entities load.
+ * Main thread only.
+ */
+public class LazyForceClear {
+
+    private final DecayRegionPlugin plugin;
+    private final PlacedDataStore placedDataStore;
+
+    private final Map<String, Map<Long, List<PlacedDataStore.Leftover>>> byChunk = new HashMap<>();
+    private final Map<UUID, ChunkKey> entities = new HashMap<>();
+    // chunks with a getChunkAtAsync in flight; the same cx/cz can be pending in several worlds
+    private final Set<ChunkKey> requested = new HashSet<>();
+
+    private BukkitTask trickle;
+    private int pendingChunks;
+
+    public LazyForceClear(DecayRegionPlugin plugin, PlacedDataStore placedDataStore) {
+        this.plugin = plugin;
+        this.placedDataStore = placedDataStore;
+    }
+
+    public static long chunkKey(int cx, int cz) {
+        return ChunkKey.pack(cx, cz);
+    }
+
+    /**
+     * Reads every leftover in one pass and indexes it by chunk. Nothing in the world is touched yet.
+     */
+    public void load() {
+        for (PlacedDataStore.Leftover l : placedDataStore.loadLeftovers()) {
+            List<PlacedDataStore.Leftover> list = byChunk.computeIfAbsent(l.world(), w -> new HashMap<>())
+                    .computeIfAbsent(chunkKey(l.x() >> 4, l.z() >> 4), k -> new ArrayList<>());
+            if (list.isEmpty()) pendingChunks++;
+            list.add(l);
+        }
+        for (PlacedDataStore.LeftoverEntity e : placedDataStore.loadLeftoverEntities()) entities.put(e.uuid(), e.chunk());
+
+        plugin.getLogger().info("[ForceClear] Lazy mode: " + pendingChunks + " chunks and "
+                + entities.size() + " entities left over from the last run.");
+    }
+
+    public boolean isEmpty() {
+        return pendingChunks == 0 && entities.isEmpty();
+    }
+
+    /**
+     * Clears chunks that are already loaded, until {@code deadlineNanos}. Returns true when none are left.
+     */
+    public boolean clearLoaded(long deadlineNanos) {
+        for (Map.Entry<String, Map<Long, List<PlacedDataStore.Leftover>>> e : byChunk.entrySet()) {
+            World world = Bukkit.getWorld(e.getKey());
+            if (world == null) continue;
+
+            Iterator<Map.Entry<Long, List<PlacedDataStore.Leftover>>> it = e.getValue().entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, List<PlacedDataStore.Leftover>> c = it.next();
+                int cx = (int) (c.getKey() >> 32), cz = (int) (long) c.getKey();
+                if (!world.isChunkLoaded(cx, cz)) continue;
+
+                if (System.nanoTime() >= deadlineNanos) return false;
+
+                it.remove();
+                pendingChunks--;
+                placedDataStore.clearLeftovers(world, c.getValue());
+            }
+        }
+
+        for (Map.Entry<UUID, ChunkKey> e : new ArrayList<>(entities.entrySet())) {
+            ChunkKey chunk = e.getValue();
+            Entity entity = null;
+
+            if (chunk == null) {
+                for (World world : Bukkit.getWorlds()) {
+                    entity = world.getEntity(e.getKey());
+                    if (entity != null) break;
+                }
+            } else {
+                World world = Bukkit.getWorld(chunk.getWorld());
+                if (world != null && world.isChunkLoaded(chunk.getX(), chunk.getZ())) entity = world.getEntity(e.getKey());
+            }
+
+            if (entity != null) removeEntity(entity);
+        }
+        return true;
+    }
+
+    /**
+     * Starts the background trickle that loads chunks still holding leftovers
+     * ({@code force-clear.lazy-chunks-per-tick}, 0 = only clear chunks when something else loads them).
+     */
+    public void startTrickle() {
+        int perTick = plugin.getCfg().getInt("force-clear.lazy-chunks-per-tick", 2);
+        if (perTick <= 0 || trickle != null || pendingChunks == 0) return;
+
+        trickle = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int started = 0;
+
+            for (Map.Entry<String, Map<Long, List<PlacedDataStore.Leftover>>> e : byChunk.entrySet()) {
+                World world = Bukkit.getWorld(e.getKey());
+                if (world == null) continue;
+
+                for (long key : e.getValue().keySet()) {
+                    if (requested.size() >= perTick || started >= perTick) return;
+                    ChunkKey request = new ChunkKey(world.getUID(), (int) (key >> 32), (int) key);
+                    if (!requested.add(request)) continue;
+
+                    started++;
+                    world.getChunkAtAsync(request.getX(), request.getZ()).whenComplete((chunk, ex) ->
+                            Bukkit.getScheduler().runTask(plugin, () -> {
+                                requested.remove(request);
+                                // already a tick after the load
+                                if (chunk != null) clearChunk(world, request.getX(), request.getZ());
+                            }));
+                }
+            }
+
+            if (pendingChunks == 0) stopTrickle();
+        }, 1L, 1L);
+    }
+
+    public void stopTrickle() {
+        if (trickle != null) trickle.cancel();
+        trickle = null;
+    }
+
+    /**
+     * Clears the chunk's leftovers on the next tick: blocks must not be changed while the chunk is still loading.
+     */
+    public void onChunkLoad(Chunk chunk) {
+        if (pendingChunks == 0) return;
+
+        World world = chunk.getWorld();
+        Map<Long, List<PlacedDataStore.Leftover>> chunks = byChunk.get(world.getName());
+        if (chunks == null) return;
+
+        int cx = chunk.getX(), cz = chunk.getZ();
+        if (!chunks.containsKey(chunkKey(cx, cz))) return;
+
+        Bukkit.getScheduler().runTask(plugin, () -> clearChunk(world, cx, cz));
+    }
+
+    private void clearChunk(World world, int cx, int cz) {
+        // unloaded again before the clear ran: keep the leftovers for its next load
+        if (!world.isChunkLoaded(cx, cz)) return;
+
+        Map<Long, List<PlacedDataStore.Leftover>> chunks = byChunk.get(world.getName());
+        List<PlacedDataStore.Leftover> list = chunks != null ? chunks.remove(chunkKey(cx, cz)) : null;
+        if (list == null) return;
+
+        pendingChunks--;
+        placedDataStore.clearLeftovers(world, list);
+
+        if (pendingChunks == 0) {
+            stopTrickle();
+            plugin.getLogger().info("[ForceClear] Lazy mode: all leftover chunks cleared.");
+        }
+    }
+
+    public void onEntitiesLoad(List<Entity> loaded) {
+        if (entities.isEmpty() || loaded == null) return;
+        for (Entity entity : loaded) {
+            if (entities.containsKey(entity.getUniqueId())) removeEntity(entity);
+        }
+    }
+
+    private void removeEntity(Entity entity) {
+        entities.remove(entity.getUniqueId());
+        if (entity.isValid()) entity.remove();
+        placedDataStore.removeEntity(null, entity.getUniqueId());
+    }
+}
@@ -3,6 +3,8 @@ package newgen.decayregion.manager;
 import newgen.decayregion.DecayRegionPlugin;
 import newgen.decayregion.region.DecayRegion;
 import newgen.decayregion.region.RegionManager;
+import newgen.decayregion.util.BlockKey;
+import newgen.decayregion.util.ChunkKey;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -16,6 +18,17 @@ import java.util.*;
 
 public class PlacedDataStore {
 
+    /**
+     * A tracked block or fluid source left over from a previous run; {@code fluid} is null for blocks.
+     */
+    public record Leftover(int region, String world, int x, int y, int z, Material fluid, long deadline) {}
+
+    /** A tracked block moved by a piston; {@code region} null = moved out of every region. */
+    public record BlockMove(BlockKey from, BlockKey to, DecayRegion region, long deadline, int order) {}
+
+    /** {@code chunk} is null for rows written before the world/chunk columns existed. */
+    public record LeftoverEntity(int region, UUID uuid, ChunkKey chunk, long deadline) {}
+
     private final DecayRegionPlugin plugin;
     private final RegionManager regionManager;
 
@@ -100,37 +113,152 @@ public class PlacedDataStore {
     private void initSchema() throws SQLException {
         try (Statement st = conn.createStatement()) {
 
-            st.execute("CREATE TABLE IF NOT EXISTS placed_blocks (" +
-                    "region TEXT NOT NULL," +
-                    "world  TEXT NOT NULL," +
-                    "x      INTEGER NOT NULL," +
-                    "y      INTEGER NOT NULL," +
-                    "z      INTEGER NOT NULL," +
-                    "PRIMARY KEY(region, world, x, y, z)" +
-                    ");");
-
-            st.execute("CREATE TABLE IF NOT EXISTS placed_entities (" +
-                    "region TEXT NOT NULL," +
-                    "uuid   TEXT NOT NULL PRIMARY KEY" +
-                    ");");
-
-            st.execute("CREATE TABLE IF NOT EXISTS fluid_sources (" +
-                    "region TEXT NOT NULL," +
-                    "world  TEXT NOT NULL," +
-                    "x      INTEGER NOT NULL," +
-                    "y      INTEGER NOT NULL," +
-                    "z      INTEGER NOT NULL," +
-                    "type   TEXT NOT NULL," +
-                    "PRIMARY KEY(region, world, x, y, z, type)" +
-                    ");");
+            createTables(st, "");
+
+            // absolute decay deadline (epoch millis), 0 = unknown (rows from older versions)
+            for (String table : new String[]{"placed_blocks", "placed_entities", "fluid_sources"}) {
+                if (!columnExists(table, "deadline")) {
+                    st.execute("ALTER TABLE " + table + " ADD COLUMN deadline INTEGER NOT NULL DEFAULT 0;");
+                }
+            }
+
+            // world UID + last known chunk of a tracked entity, for direct lookups
+            if (!columnExists("placed_entities", "world")) {
+                st.execute("ALTER TABLE placed_entities ADD COLUMN world TEXT;");
+                st.execute("ALTER TABLE placed_entities ADD COLUMN cx INTEGER;");
+                st.execute("ALTER TABLE placed_entities ADD COLUMN cz INTEGER;");
+            }
+
+            // older versions keyed rows by lowercase region name
+            if ("TEXT".equalsIgnoreCase(columnType("placed_blocks", "region"))) migrateRegionIds(st);
 
             st.execute("CREATE INDEX IF NOT EXISTS idx_blocks_region_world_xyz ON placed_blocks(region, world, x, y, z);");
             st.execute("CREATE INDEX IF NOT EXISTS idx_entities_region ON placed_entities(region);");
             st.execute("CREATE INDEX IF NOT EXISTS idx_fluids_region_world_xyz ON fluid_sources(region, world, x, y, z);");
             st.execute("CREATE INDEX IF NOT EXISTS idx_fluids_region_world_type ON fluid_sources(region, world, type);");
+            st.execute("CREATE INDEX IF NOT EXISTS idx_blocks_region_chunk ON placed_blocks(region, world, (x >> 4), (z >> 4));");
+            st.execute("CREATE INDEX IF NOT EXISTS idx_fluids_region_chunk ON fluid_sources(region, world, (x >> 4), (z >> 4));");
+            // position-only lookups (explosion batches) that don't know the region
+            st.execute("CREATE INDEX IF NOT EXISTS idx_blocks_world_xyz ON placed_blocks(world, x, y, z);");
+            st.execute("CREATE INDEX IF NOT EXISTS idx_entities_chunk ON placed_entities(world, cx, cz);");
         }
     }
 
+    /**
+     * {@code region} is the region's stable id (see {@link RegionManager}); 0 = a region that no longer exists.
+     */
+    private void createTables(Statement st, String suffix) throws SQLException {
+        st.execute("CREATE TABLE IF NOT EXISTS placed_blocks" + suffix + " (" +
+                "region INTEGER NOT NULL," +
+                "world  TEXT NOT NULL," +
+                "x      INTEGER NOT NULL," +
+                "y      INTEGER NOT NULL," +
+                "z      INTEGER NOT NULL," +
+                "deadline INTEGER NOT NULL DEFAULT 0," +
+                "PRIMARY KEY(region, world, x, y, z)" +
+                ");");
+
+        st.execute("CREATE TABLE IF NOT EXISTS placed_entities" + suffix + " (" +
+                "region INTEGER NOT NULL," +
+                "uuid   TEXT NOT NULL PRIMARY KEY," +
+                "deadline INTEGER NOT NULL DEFAULT 0," +
+                "world  TEXT," +
+                "cx     INTEGER," +
+                "cz     INTEGER" +
+                ");");
+
+        st.execute("CREATE TABLE IF NOT EXISTS fluid_sources" + suffix + " (" +
+                "region INTEGER NOT NULL," +
+                "world  TEXT NOT NULL," +
+                "x      INTEGER NOT NULL," +
+                "y      INTEGER NOT NULL," +
+                "z      INTEGER NOT NULL," +
+                "type   TEXT NOT NULL," +
+                "deadline INTEGER NOT NULL DEFAULT 0," +
+                "PRIMARY KEY(region, world, x, y, z, type)" +
+                ");");
+    }
+
+    /**
+     * Rebuilds the three tables with the region name replaced by the region id, in one transaction.
+     * Names of regions that no longer exist map to 0.
+     */
+    private void migrateRegionIds(Statement st) throws SQLException {
+        String[][] tables = {
+                {"placed_blocks", "world, x, y, z, deadline"},
+                {"placed_entities", "uuid, deadline, world, cx, cz"},
+                {"fluid_sources", "world, x, y, z, type, deadline"}
+        };
+
+        boolean prev = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            createTables(st, "_v2");
+
+            for (String[] t : tables) {
+                List<String> names = new ArrayList<>();
+                try (ResultSet rs = st.executeQuery("SELECT DISTINCT region FROM " + t[0])) {
+                    while (rs.next()) names.add(rs.getString(1));
+                }
+
+                try (PreparedStatement ps = conn.prepareStatement("INSERT OR REPLACE INTO " + t[0] + "_v2(region, " + t[1]
+                        + ") SELECT ?, " + t[1] + " FROM " + t[0] + " WHERE region=?")) {
+                    for (String name : names) {
+                        DecayRegion region = regionManager.getRegion(name);
+                        ps.setInt(1, region != null ? region.getId() : 0);
+                        ps.setString(2, name);
+                        ps.executeUpdate();
+                    }
+                }
+
+                st.execute("DROP TABLE " + t[0]);
+                st.execute("ALTER TABLE " + t[0] + "_v2 RENAME TO " + t[0]);
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(prev);
+        }
+
+        plugin.getLogger().info("[PlacedDataStore] Migrated placed data from region names to region ids.");
+    }
+
+    private String columnType(String table, String column) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return rs.getString("type");
+            }
+        }
+        return null;
+    }
+
+    private boolean columnExists(String table, String column) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return true;
+            }
+        }
+        return false;
+    }
+
+    private static ChunkKey readChunk(ResultSet rs, int worldColumn) throws SQLException {
+        String world = rs.getString(worldColumn);
+        if (world == null) return null;
+        try {
+            return new ChunkKey(UUID.fromString(world), rs.getInt(worldColumn + 1), rs.getInt(worldColumn + 2));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long deadlineFor(DecayRegion region) {
+        return System.currentTimeMillis() + region.getDecaySeconds() * 1000L;
+    }
+
     private boolean tableExists(String table) {
         try (PreparedStatement ps = conn.prepareStatement(
                 "SELECT name FROM sqlite_master WHERE type='table' AND name=? LIMIT 1")) {
@@ -191,13 +319,14 @@ public class PlacedDataStore {
                          "INSERT OR REPLACE INTO fluid_sources(region, world, x, y, z, type) VALUES(?,?,?,?,?,?)")) {
 
                 for (String regionKey : sec.getKeys(false)) {
-                    String r = regionKey.toLowerCase();
+                    DecayRegion region = regionManager.getRegion(regionKey);
+                    int r = region != null ? region.getId() : 0;
 
                     for (String s : data.getStringList("regions." + regionKey + ".blocks")) {
                         String[] p = s.split(";");
                         if (p.length != 4) continue;
                         try {
-                            pb.setString(1, r);
+                            pb.setInt(1, r);
                             pb.setString(2, p[0]);
                             pb.setInt(3, Integer.parseInt(p[1]));
                             pb.setInt(4, Integer.parseInt(p[2]));
@@ -210,7 +339,7 @@ public class PlacedDataStore {
                     for (String s : data.getStringList("regions." + regionKey + ".entities")) {
                         try {
                             UUID u = UUID.fromString(s);
-                            pe.setString(1, r);
+                            pe.setInt(1, r);
                             pe.setString(2, u.toString());
                             pe.addBatch();
                             importedEntities++;
@@ -224,7 +353,7 @@ public class PlacedDataStore {
                             Material t = Material.valueOf(p[4]);
                             if (t != Material.WATER && t != Material.LAVA) continue;
 
-                            pf.setString(1, r);
+                            pf.setInt(1, r);
                             pf.setString(2, p[0]);
                             pf.setInt(3, Integer.parseInt(p[1]));
                             pf.setInt(4, Integer.parseInt(p[2]));
@@ -257,15 +386,16 @@ public class PlacedDataStore {
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
 
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT OR REPLACE INTO placed_blocks(region, world, x, y, z) VALUES(?,?,?,?,?)")) {
-            ps.setString(1, r);
+                "INSERT OR REPLACE INTO placed_blocks(region, world, x, y, z, deadline) VALUES(?,?,?,?,?,?)")) {
+            ps.setInt(1, r);
             ps.setString(2, loc.getWorld().getName());
             ps.setInt(3, loc.getBlockX());
             ps.setInt(4, loc.getBlockY());
             ps.setInt(5, loc.getBlockZ());
+            ps.setLong(6, deadlineFor(region));
             ps.executeUpdate();
             dirty = true;
         } catch (Exception e) {
@@ -279,11 +409,11 @@ public class PlacedDataStore {
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
 
         try (PreparedStatement ps = conn.prepareStatement(
                 "DELETE FROM placed_blocks WHERE region=? AND world=? AND x=? AND y=? AND z=?")) {
-            ps.setString(1, r);
+            ps.setInt(1, r);
             ps.setString(2, loc.getWorld().getName());
             ps.setInt(3, loc.getBlockX());
             ps.setInt(4, loc.getBlockY());
@@ -295,18 +425,91 @@ public class PlacedDataStore {
         }
     }
 
-    public synchronized void recordEntity(DecayRegion region, UUID uuid) {
-        if (region == null || uuid == null) return;
+    /**
+     * Deletes the rows of many blocks of one world in a single batch (e.g. everything an explosion destroyed).
+     */
+    public synchronized void removeBlocks(World world, Collection<BlockKey> keys) {
+        if (world == null || keys.isEmpty() || conn == null) return;
+
+        ensureSchema();
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "DELETE FROM placed_blocks WHERE world=? AND x=? AND y=? AND z=?")) {
+            for (BlockKey key : keys) {
+                ps.setString(1, world.getName());
+                ps.setInt(2, key.getX());
+                ps.setInt(3, key.getY());
+                ps.setInt(4, key.getZ());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            dirty = true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] removeBlocks failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-keys the rows of blocks moved by one piston in a single batch. Rows are updated front-most first,
+     * so a block never moves onto a row that has not moved yet.
+     */
+    public synchronized void moveBlocks(World world, List<BlockMove> moves) {
+        if (world == null || moves.isEmpty() || conn == null) return;
+
+        ensureSchema();
+
+        List<BlockMove> ordered = new ArrayList<>(moves);
+        ordered.sort(Comparator.comparingInt(BlockMove::order).reversed());
+
+        try (PreparedStatement up = conn.prepareStatement(
+                "UPDATE OR REPLACE placed_blocks SET region=?, x=?, y=?, z=?, deadline=? WHERE world=? AND x=? AND y=? AND z=?");
+             PreparedStatement del = conn.prepareStatement(
+                     "DELETE FROM placed_blocks WHERE world=? AND x=? AND y=? AND z=?")) {
+            for (BlockMove m : ordered) {
+                if (m.region() == null) {
+                    del.setString(1, world.getName());
+                    del.setInt(2, m.from().getX());
+                    del.setInt(3, m.from().getY());
+                    del.setInt(4, m.from().getZ());
+                    del.addBatch();
+                    continue;
+                }
+                up.setInt(1, m.region().getId());
+                up.setInt(2, m.to().getX());
+                up.setInt(3, m.to().getY());
+                up.setInt(4, m.to().getZ());
+                up.setLong(5, m.deadline());
+                up.setString(6, world.getName());
+                up.setInt(7, m.from().getX());
+                up.setInt(8, m.from().getY());
+                up.setInt(9, m.from().getZ());
+                up.addBatch();
+            }
+            del.executeBatch();
+            up.executeBatch();
+            dirty = true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] moveBlocks failed: " + e.getMessage());
+        }
+    }
+
+    public synchronized void recordEntity(DecayRegion region, Entity entity) {
+        if (region == null || entity == null) return;
         if (conn == null) return;
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
+        Location loc = entity.getLocation();
 
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT OR REPLACE INTO placed_entities(region, uuid) VALUES(?,?)")) {
-            ps.setString(1, r);
-            ps.setString(2, uuid.toString());
+                "INSERT OR REPLACE INTO placed_entities(region, uuid, deadline, world, cx, cz) VALUES(?,?,?,?,?,?)")) {
+            ps.setInt(1, r);
+            ps.setString(2, entity.getUniqueId().toString());
+            ps.setLong(3, deadlineFor(region));
+            ps.setString(4, entity.getWorld().getUID().toString());
+            ps.setInt(5, loc.getBlockX() >> 4);
+            ps.setInt(6, loc.getBlockZ() >> 4);
             ps.executeUpdate();
             dirty = true;
         } catch (Exception e) {
@@ -314,6 +517,77 @@ public class PlacedDataStore {
         }
     }
 
+    /**
+     * Stores the last known chunk of tracked entities (after they moved or their chunk unloaded).
+     */
+    public synchronized void updateEntityChunks(Collection<EntityRegistry.Tracked> moved) {
+        if (moved.isEmpty() || conn == null) return;
+
+        ensureSchema();
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "UPDATE placed_entities SET world=?, cx=?, cz=? WHERE uuid=?")) {
+            for (EntityRegistry.Tracked t : moved) {
+                ps.setString(1, t.getChunk().getWorld().toString());
+                ps.setInt(2, t.getChunk().getX());
+                ps.setInt(3, t.getChunk().getZ());
+                ps.setString(4, t.getUuid().toString());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            dirty = true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] updateEntityChunks failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a deadline-0 (force-clear) row for each entity; they are removed without drops when they load.
+     */
+    private synchronized void markEntitiesCleared(int r, Collection<EntityRegistry.Tracked> tracked) {
+        if (tracked.isEmpty() || conn == null) return;
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT OR REPLACE INTO placed_entities(region, uuid, deadline, world, cx, cz) VALUES(?,?,0,?,?,?)")) {
+            for (EntityRegistry.Tracked t : tracked) {
+                ChunkKey chunk = t.getChunk();
+                ps.setInt(1, r);
+                ps.setString(2, t.getUuid().toString());
+                if (chunk != null) {
+                    ps.setString(3, chunk.getWorld().toString());
+                    ps.setInt(4, chunk.getX());
+                    ps.setInt(5, chunk.getZ());
+                } else {
+                    ps.setNull(3, Types.VARCHAR);
+                    ps.setNull(4, Types.INTEGER);
+                    ps.setNull(5, Types.INTEGER);
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            dirty = true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] markEntitiesCleared failed: " + e.getMessage());
+        }
+    }
+
+    public synchronized void removeEntities(Collection<UUID> uuids) {
+        if (uuids.isEmpty() || conn == null) return;
+
+        ensureSchema();
+
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM placed_entities WHERE uuid=?")) {
+            for (UUID uuid : uuids) {
+                ps.setString(1, uuid.toString());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            dirty = true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] removeEntities failed: " + e.getMessage());
+        }
+    }
+
     public synchronized void removeEntity(DecayRegion region, UUID uuid) {
         if (uuid == null) return;
         if (conn == null) return;
@@ -337,16 +611,17 @@ public class PlacedDataStore {
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
 
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT OR REPLACE INTO fluid_sources(region, world, x, y, z, type) VALUES(?,?,?,?,?,?)")) {
-            ps.setString(1, r);
+                "INSERT OR REPLACE INTO fluid_sources(region, world, x, y, z, type, deadline) VALUES(?,?,?,?,?,?,?)")) {
+            ps.setInt(1, r);
             ps.setString(2, loc.getWorld().getName());
             ps.setInt(3, loc.getBlockX());
             ps.setInt(4, loc.getBlockY());
             ps.setInt(5, loc.getBlockZ());
             ps.setString(6, type.name());
+            ps.setLong(7, deadlineFor(region));
             ps.executeUpdate();
             dirty = true;
         } catch (Exception e) {
@@ -361,11 +636,11 @@ public class PlacedDataStore {
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
 
         try (PreparedStatement ps = conn.prepareStatement(
                 "DELETE FROM fluid_sources WHERE region=? AND world=? AND x=? AND y=? AND z=? AND type=?")) {
-            ps.setString(1, r);
+            ps.setInt(1, r);
             ps.setString(2, loc.getWorld().getName());
             ps.setInt(3, loc.getBlockX());
             ps.setInt(4, loc.getBlockY());
@@ -384,14 +659,14 @@ public class PlacedDataStore {
 
         ensureSchema();
 
-        String r = region.getName().toLowerCase();
+        int r = region.getId();
         int bx = loc.getBlockX(), by = loc.getBlockY(), bz = loc.getBlockZ();
 
         String sql = "SELECT 1 FROM fluid_sources WHERE region=? AND world=? AND " +
                 "x BETWEEN ? AND ? AND y BETWEEN ? AND ? AND z BETWEEN ? AND ? LIMIT 1";
 
         try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, r);
+            ps.setInt(1, r);
             ps.setString(2, loc.getWorld().getName());
             ps.setInt(3, bx - radius);
             ps.setInt(4, bx + radius);
@@ -408,7 +683,10 @@ public class PlacedDataStore {
         }
     }
 
-    private void floodClearFluid(String regionNameLower, Location start, Material fluidType, int maxFlood) {
+    /**
+     * Stops at unloaded chunks instead of loading them; flowing fluid there dries up on its own once the source is gone.
+     */
+    private void floodClearFluid(int regionId, Location start, Material fluidType, int maxFlood) {
         if (start == null || start.getWorld() == null) return;
 
         Deque<Location> q = new ArrayDeque<>();
@@ -425,7 +703,9 @@ public class PlacedDataStore {
             if (!visited.add(packed)) continue;
 
             DecayRegion now = regionManager.getRegionAt(loc);
-            if (now == null || !now.getName().equalsIgnoreCase(regionNameLower)) continue;
+            if (now == null || now.getId() != regionId) continue;
+
+            if (!loc.getWorld().isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) continue;
 
             if (loc.getBlock().getType() != fluidType) continue;
 
@@ -442,113 +722,135 @@ public class PlacedDataStore {
 
         if (!q.isEmpty() && processed >= maxFlood) {
             plugin.getLogger().warning("[ForceClear] floodClear hit maxFlood=" + maxFlood
-                    + " region=" + regionNameLower + " type=" + fluidType
+                    + " region=#" + regionId + " type=" + fluidType
                     + " start=" + start.getWorld().getName() + "," + start.getBlockX() + "," + start.getBlockY() + "," + start.getBlockZ());
         }
     }
 
-    public void forceClearRegion(String regionName) {
-        if (regionName == null) return;
-        if (conn == null) return;
+    /**
+     * Clears every tracked block, fluid source and entity of a region. Entities go right away; blocks and
+     * fluids are streamed in chunk order and cleared over several ticks by a {@link ForceClearJob}.
+     * {@code done} runs on the main thread once everything is gone.
+     */
+    public void forceClearRegion(int r, Runnable done) {
+        if (conn == null) {
+            if (done != null) done.run();
+            return;
+        }
 
         ensureSchema();
 
-        String r = regionName.toLowerCase();
+        // entities in loaded chunks go now, one entity scan per chunk; the rest stay tracked with an
+        // expired deadline and are removed in the batch that runs when their chunk's entities load
+        EntityRegistry registry = plugin.getEntityRegistry();
+        List<UUID> removed = new ArrayList<>();
 
         try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT world,x,y,z FROM placed_blocks WHERE region=?")) {
-            ps.setString(1, r);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    World w = Bukkit.getWorld(rs.getString(1));
-                    if (w == null) continue;
-                    int x = rs.getInt(2), y = rs.getInt(3), z = rs.getInt(4);
-                    w.getBlockAt(x, y, z).setType(Material.AIR, false);
-                }
-            }
-        } catch (Exception e) {
-            plugin.getLogger().warning("[PlacedDataStore] forceClear blocks failed: " + e.getMessage());
-        }
-
-        try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT uuid FROM placed_entities WHERE region=?")) {
-            ps.setString(1, r);
+                "SELECT uuid, world, cx, cz FROM placed_entities WHERE region=?")) {
+            ps.setInt(1, r);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     UUID uuid;
                     try { uuid = UUID.fromString(rs.getString(1)); } catch (Exception ex) { continue; }
-                    Entity e = null;
-                    for (World w : Bukkit.getWorlds()) {
-                        e = w.getEntity(uuid);
-                        if (e != null) break;
-                    }
-                    if (e != null && e.isValid()) e.remove();
+                    if (!registry.isTracked(uuid)) registry.track(r, uuid, readChunk(rs, 2), 0L);
                 }
             }
         } catch (Exception e) {
             plugin.getLogger().warning("[PlacedDataStore] forceClear entities failed: " + e.getMessage());
         }
 
-        int maxFlood = plugin.getCfg().getInt("force-clear.max-flood-blocks", 500000);
+        List<EntityRegistry.Tracked> loaded = new ArrayList<>();
+        List<EntityRegistry.Tracked> unloaded = new ArrayList<>();
+        for (EntityRegistry.Tracked t : registry.inRegion(r)) {
+            registry.setDeadline(t.getUuid(), 0L);
+            (registry.isLoaded(t) ? loaded : unloaded).add(t);
+        }
+        // persisted so the force-clear survives a restart (in PDC mode the entity's tag still holds its deadline)
+        markEntitiesCleared(r, unloaded);
+        for (Map.Entry<ChunkKey, List<EntityRegistry.Tracked>> c : registry.groupByChunk(loaded).entrySet()) {
+            Map<UUID, Entity> found = registry.resolve(c.getKey(), c.getValue());
+            for (EntityRegistry.Tracked t : c.getValue()) {
+                Entity e = found.get(t.getUuid());
+                if (e != null && e.isValid()) e.remove();
+                registry.untrack(t.getUuid());
+                removed.add(t.getUuid());
+            }
+        }
 
-        try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT world,x,y,z,type FROM fluid_sources WHERE region=?")) {
-            ps.setString(1, r);
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    World w = Bukkit.getWorld(rs.getString(1));
-                    if (w == null) continue;
-                    int x = rs.getInt(2), y = rs.getInt(3), z = rs.getInt(4);
-                    Material type;
-                    try { type = Material.valueOf(rs.getString(5)); } catch (Exception ex) { continue; }
-                    if (type != Material.WATER && type != Material.LAVA) continue;
+        removeEntities(removed);
 
-                    floodClearFluid(r, new Location(w, x, y, z), type, maxFlood);
+        DecayRegion region = regionManager.getRegion(r);
+        String label = region != null ? region.getName() : "#" + r;
+        new ForceClearJob(plugin, this, label, loadChunkGroups(r), done).start();
+    }
+
+    /**
+     * Blocks and fluid sources of a region grouped per chunk, in chunk order (served by the chunk indexes).
+     */
+    private synchronized List<ForceClearJob.ChunkGroup> loadChunkGroups(int r) {
+        Map<String, ForceClearJob.ChunkGroup> groups = new LinkedHashMap<>();
+
+        try (PreparedStatement pb = conn.prepareStatement(
+                "SELECT world, x, y, z, deadline FROM placed_blocks WHERE region=? " +
+                        "ORDER BY world, (x >> 4), (z >> 4)");
+             PreparedStatement pf = conn.prepareStatement(
+                     "SELECT world, x, y, z, deadline, type FROM fluid_sources WHERE region=? " +
+                             "ORDER BY world, (x >> 4), (z >> 4)")) {
+
+            for (PreparedStatement ps : new PreparedStatement[]{pb, pf}) {
+                boolean fluids = ps == pf;
+                ps.setInt(1, r);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        Material type = null;
+                        if (fluids) {
+                            try { type = Material.valueOf(rs.getString(6)); } catch (Exception ex) { continue; }
+                            if (type != Material.WATER && type != Material.LAVA) continue;
+                        }
+
+                        String world = rs.getString(1);
+                        int x = rs.getInt(2), y = rs.getInt(3), z = rs.getInt(4);
+                        groups.computeIfAbsent(world + ":" + (x >> 4) + ":" + (z >> 4),
+                                        k -> new ForceClearJob.ChunkGroup(world, x >> 4, z >> 4, new ArrayList<>()))
+                                .items().add(new Leftover(r, world, x, y, z, type, rs.getLong(5)));
+                    }
                 }
             }
         } catch (Exception e) {
-            plugin.getLogger().warning("[PlacedDataStore] forceClear fluids failed: " + e.getMessage());
+            plugin.getLogger().warning("[PlacedDataStore] forceClear load failed: " + e.getMessage());
         }
 
-        synchronized (this) {
-            try (PreparedStatement a = conn.prepareStatement("DELETE FROM placed_blocks WHERE region=?");
-                 PreparedStatement b = conn.prepareStatement("DELETE FROM placed_entities WHERE region=?");
-                 PreparedStatement c = conn.prepareStatement("DELETE FROM fluid_sources WHERE region=?")) {
-                a.setString(1, r);
-                b.setString(1, r);
-                c.setString(1, r);
-                a.executeUpdate();
-                b.executeUpdate();
-                c.executeUpdate();
-                dirty = true;
-            } catch (Exception e) {
-                plugin.getLogger().warning("[PlacedDataStore] wipe region failed: " + e.getMessage());
-            }
-        }
+        return new ArrayList<>(groups.values());
     }
 
-    public void forceClearAllOnStartupIfEnabled() {
-        if (conn == null) return;
-        ensureSchema();
+    public boolean isForceClearOnStartupEnabled() {
+        return conn != null && plugin.getCfg().getBoolean("force-clear-on-startup", true);
+    }
 
-        if (!plugin.getCfg().getBoolean("force-clear-on-startup", true)) return;
+    /**
+     * Ids of regions (0 = deleted ones) that still own placed blocks, entities or fluid sources in data.db.
+     */
+    public Set<Integer> listRegionsWithPlacedData() {
+        Set<Integer> regions = new HashSet<>();
+        if (conn == null) return regions;
+        ensureSchema();
 
-        Set<String> regions = new HashSet<>();
         try (Statement st = conn.createStatement();
              ResultSet rs = st.executeQuery("SELECT DISTINCT region FROM (" +
                      "SELECT region FROM placed_blocks UNION ALL SELECT region FROM placed_entities UNION ALL SELECT region FROM fluid_sources" +
                      ")")) {
-            while (rs.next()) {
-                String r = rs.getString(1);
-                if (r != null && !r.isBlank()) regions.add(r);
-            }
+            while (rs.next()) regions.add(rs.getInt(1));
         } catch (Exception e) {
             plugin.getLogger().warning("[PlacedDataStore] list regions on startup failed: " + e.getMessage());
         }
+        return regions;
+    }
 
-        for (String r : regions) {
-            forceClearRegion(r);
-        }
+    /**
+     * Drops every remaining placed row; the last step of the startup force-clear.
+     */
+    public void wipeAllPlacedData() {
+        if (conn == null) return;
 
         try (Statement st = conn.createStatement()) {
             st.executeUpdate("DELETE FROM placed_blocks;");
@@ -564,31 +866,97 @@ public class PlacedDataStore {
         plugin.getLogger().info("Force-cleared blocks/entities/WATER/LAVA from data.db on startup.");
     }
 
-    public synchronized void renameRegionKey(String oldName, String newName) {
-        if (oldName == null || newName == null) return;
-        if (conn == null) return;
+    // =========================
+    // LAZY FORCE-CLEAR
+    // =========================
 
+    /**
+     * Every placed block and fluid source still in data.db with its deadline, read in one pass without touching the world.
+     */
+    public synchronized List<Leftover> loadLeftovers() {
+        List<Leftover> out = new ArrayList<>();
+        if (conn == null) return out;
         ensureSchema();
 
-        String oldKey = oldName.toLowerCase();
-        String newKey = newName.toLowerCase();
-        if (oldKey.equals(newKey)) return;
-
-        try (PreparedStatement a = conn.prepareStatement("UPDATE placed_blocks SET region=? WHERE region=?");
-             PreparedStatement b = conn.prepareStatement("UPDATE placed_entities SET region=? WHERE region=?");
-             PreparedStatement c = conn.prepareStatement("UPDATE fluid_sources SET region=? WHERE region=?")) {
-            a.setString(1, newKey);
-            a.setString(2, oldKey);
-            b.setString(1, newKey);
-            b.setString(2, oldKey);
-            c.setString(1, newKey);
-            c.setString(2, oldKey);
-            a.executeUpdate();
-            b.executeUpdate();
-            c.executeUpdate();
-            dirty = true;
+        try (Statement st = conn.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT region, world, x, y, z, deadline FROM placed_blocks")) {
+                while (rs.next()) {
+                    out.add(new Leftover(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4), rs.getInt(5),
+                            null, rs.getLong(6)));
+                }
+            }
+            try (ResultSet rs = st.executeQuery("SELECT region, world, x, y, z, type, deadline FROM fluid_sources")) {
+                while (rs.next()) {
+                    Material type;
+                    try { type = Material.valueOf(rs.getString(6)); } catch (Exception ex) { continue; }
+                    if (type != Material.WATER && type != Material.LAVA) continue;
+                    out.add(new Leftover(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4), rs.getInt(5),
+                            type, rs.getLong(7)));
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("[PlacedDataStore] loadLeftovers failed: " + e.getMessage());
+        }
+        return out;
+    }
+
+    public synchronized List<LeftoverEntity> loadLeftoverEntities() {
+        List<LeftoverEntity> out = new ArrayList<>();
+        if (conn == null) return out;
+        ensureSchema();
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT region, uuid, deadline, world, cx, cz FROM placed_entities")) {
+            while (rs.next()) {
+                UUID uuid;
+                try { uuid = UUID.fromString(rs.getString(2)); } catch (Exception ex) { continue; }
+                out.add(new LeftoverEntity(rs.getInt(1), uuid, readChunk(rs, 4), rs.getLong(3)));
+            }
         } catch (Exception e) {
-            plugin.getLogger().warning("[PlacedDataStore] renameRegionKey failed: " + e.getMessage());
+            plugin.getLogger().warning("[PlacedDataStore] loadLeftoverEntities failed: " + e.getMessage());
+        }
+        return out;
+    }
+
+    /**
+     * Clears leftovers of one loaded chunk and deletes their rows in one batch.
+     */
+    public void clearLeftovers(World world, List<Leftover> leftovers) {
+        if (world == null || leftovers.isEmpty()) return;
+
+        int maxFlood = plugin.getCfg().getInt("force-clear.max-flood-blocks", 500000);
+
+        for (Leftover l : leftovers) {
+            if (l.fluid() == null) {
+                world.getBlockAt(l.x(), l.y(), l.z()).setType(Material.AIR, false);
+            } else {
+                floodClearFluid(l.region(), new Location(world, l.x(), l.y(), l.z()), l.fluid(), maxFlood);
+            }
+        }
+
+        if (conn == null) return;
+
+        synchronized (this) {
+            try (PreparedStatement pb = conn.prepareStatement(
+                    "DELETE FROM placed_blocks WHERE region=? AND world=? AND x=? AND y=? AND z=?");
+                 PreparedStatement pf = conn.prepareStatement(
+                         "DELETE FROM fluid_sources WHERE region=? AND world=? AND x=? AND y=? AND z=? AND type=?")) {
+                for (Leftover l : leftovers) {
+                    PreparedStatement ps = l.fluid() == null ? pb : pf;
+                    ps.setInt(1, l.region());
+                    ps.setString(2, l.world());
+                    ps.setInt(3, l.x());
+                    ps.setInt(4, l.y());
+                    ps.setInt(5, l.z());
+                    if (l.fluid() != null) ps.setString(6, l.fluid().name());
+                    ps.addBatch();
+                }
+                pb.executeBatch();
+                pf.executeBatch();
+                dirty = true;
+            } catch (Exception e) {
+                plugin.getLogger().warning("[PlacedDataStore] clearLeftovers failed: " + e.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,126 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.region.DecayRegion;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caps how fast players can grow tracked state: placements per second (sliding one-second window) and
+ * concurrently tracked blocks, both per player and per region ({@code rate-limit.*}, 0 = no cap).
+ * Everything runs on the main thread, so the counters are plain ints. Main thread only.
+ */
+public class PlacementLimiter {
+
+    private static class Counter {
+        long second;
+        int current;
+        int previous;
+        int tracked;
+
+        /** Placements in the last second, weighting the previous second by how much of it is still in the window. */
+        double rate(long nowMillis) {
+            roll(nowMillis);
+            double previousWeight = 1.0 - (nowMillis % 1000L) / 1000.0;
+            return current + previous * previousWeight;
+        }
+
+        void roll(long nowMillis) {
+            long sec = nowMillis / 1000L;
+            if (sec == second) return;
+            previous = sec == second + 1 ? current : 0;
+            current = 0;
+            second = sec;
+        }
+
+        /** Nothing tracked and no placement left in the window; the counter can be dropped. */
+        boolean isIdle(long nowMillis) {
+            roll(nowMillis);
+            return tracked <= 0 && current == 0 && previous == 0;
+        }
+    }
+
+    private final DecayRegionPlugin plugin;
+    private final Map<UUID, Counter> players = new HashMap<>();
+    private final Map<Integer, Counter> regions = new HashMap<>();
+
+    private int playerPerSecond;
+    private int playerMaxTracked;
+    private int regionPerSecond;
+    private int regionMaxTracked;
+    private long lastSweepSecond;
+
+    public PlacementLimiter(DecayRegionPlugin plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    public void reload() {
+        playerPerSecond = plugin.getCfg().getInt("rate-limit.player-per-second", 0);
+        playerMaxTracked = plugin.getCfg().getInt("rate-limit.player-max-tracked", 0);
+        regionPerSecond = plugin.getCfg().getInt("rate-limit.region-per-second", 0);
+        regionMaxTracked = plugin.getCfg().getInt("rate-limit.region-max-tracked", 0);
+    }
+
+    /**
+     * Counts one placement when every cap allows it; returns false (and counts nothing) otherwise.
+     */
+    public boolean tryPlace(UUID player, DecayRegion region) {
+        long now = System.currentTimeMillis();
+        sweep(now);
+
+        Counter p = players.computeIfAbsent(player, u -> new Counter());
+        Counter r = regions.computeIfAbsent(region.getId(), x -> new Counter());
+
+        if (playerPerSecond > 0 && p.rate(now) >= playerPerSecond) return false;
+        if (regionPerSecond > 0 && r.rate(now) >= regionPerSecond) return false;
+        if (playerMaxTracked > 0 && p.tracked >= playerMaxTracked) return false;
+        if (regionMaxTracked > 0 && r.tracked >= regionMaxTracked) return false;
+
+        p.roll(now);
+        r.roll(now);
+        p.current++;
+        r.current++;
+        return true;
+    }
+
+    /**
+     * Drops idle counters at most once a second: denied placements and counters whose window was still
+     * open when their last tracked block went away would otherwise stay forever.
+     */
+    private void sweep(long nowMillis) {
+        long sec = nowMillis / 1000L;
+        if (sec == lastSweepSecond) return;
+        lastSweepSecond = sec;
+
+        players.values().removeIf(c -> c.isIdle(nowMillis));
+        regions.values().removeIf(c -> c.isIdle(nowMillis));
+    }
+
+    public void tracked(UUID player, DecayRegion region) {
+        players.computeIfAbsent(player, u -> new Counter()).tracked++;
+        if (region != null) regions.computeIfAbsent(region.getId(), x -> new Counter()).tracked++;
+    }
+
+    public void untracked(UUID player, DecayRegion region) {
+        long now = System.currentTimeMillis();
+
+        Counter p = players.get(player);
+        if (p != null && --p.tracked <= 0 && p.isIdle(now)) players.remove(player);
+
+        Counter r = region != null ? regions.get(region.getId()) : null;
+        if (r != null && --r.tracked <= 0 && r.isIdle(now)) regions.remove(region.getId());
+    }
+
+    public int getTracked(UUID player) {
+        Counter p = players.get(player);
+        return p != null ? p.tracked : 0;
+    }
+
+    public int getTracked(DecayRegion region) {
+        Counter r = regions.get(region.getId());
+        return r != null ? r.tracked : 0;
+    }
+}
@@ -2,14 +2,40 @@ package newgen.decayregion.manager;
 
 import newgen.decayregion.DecayRegionPlugin;
 import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.util.BlockKey;
+import newgen.decayregion.util.PalettedSection;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.sql.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 public class RegionSnapshotStore {
@@ -18,9 +44,43 @@ public class RegionSnapshotStore {
     private final File dbFile;
     private Connection conn;
 
+    private static final String AIR_STATE = "minecraft:air";
+
+    private final ExecutorService workers;
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+    // ids of regions deleted this session (ids are never reused); a snapshot still running for one is not stored
+    private final Set<Integer> deleted = ConcurrentHashMap.newKeySet();
+
+    // snapshot_palette: every distinct block-data string is stored once and referenced by id
+    private final Map<String, Integer> paletteIds = new HashMap<>();
+    private final Map<Integer, String> paletteStates = new HashMap<>();
+    private final Map<Integer, BlockData> blockDataCache = new ConcurrentHashMap<>();
+    // entries inserted by the open transaction; only published to the maps above once it commits
+    private final Map<String, Integer> stagedPalette = new HashMap<>();
+
+    private final Deque<RestoreJob> restoreQueue = new ArrayDeque<>();
+    private BukkitTask restorePump;
+
+    // startup_progress rows waiting for the next write on the worker pool
+    private final Map<String, String> pendingProgress = new ConcurrentHashMap<>();
+    private final AtomicBoolean progressFlushQueued = new AtomicBoolean();
+
+    private final SnapshotDirtyTracker dirtyTracker;
+    private final Map<Integer, Integer> generations = new ConcurrentHashMap<>();
+
     public RegionSnapshotStore(DecayRegionPlugin plugin) {
         this.plugin = plugin;
         this.dbFile = new File(plugin.getDataFolder(), "data.db");
+        this.dirtyTracker = new SnapshotDirtyTracker(plugin.getRegionManager());
+
+        int threads = Math.max(1, plugin.getCfg().getInt("snapshot.worker-threads", 2));
+        AtomicInteger threadId = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "DecayRegion-Snapshot-" + threadId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
         reload();
     }
 
@@ -49,16 +109,42 @@ public class RegionSnapshotStore {
 
             conn.setAutoCommit(false);
 
+            syncCatalog();
+            loadPalette();
+            loadGenerations();
+            migrateLegacySnapshots();
+            migrateStringPaletteSections();
+            conn.commit();
+            publishPalette();
+
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "[SnapshotStore] Cannot open data.db", e);
             conn = null;
         }
     }
 
+    /**
+     * Finishes queued restores, stops the worker pool (letting queued snapshots finish briefly)
+     * and closes the database. Main thread only.
+     */
+    public void shutdown() {
+        drainRestoresNow();
+
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+    }
+
     public synchronized void close() {
         try {
             if (conn != null) {
+                writeStartupProgress();
                 conn.commit();
+                pendingProgress.clear();
                 conn.close();
             }
         } catch (Exception ignored) {}
@@ -68,27 +154,443 @@ public class RegionSnapshotStore {
     private void initSchema() throws SQLException {
         try (Statement st = conn.createStatement()) {
             st.execute("""
-                CREATE TABLE IF NOT EXISTS region_snapshots (
-                    region TEXT NOT NULL,
-                    world  TEXT NOT NULL,
-                    x      INTEGER NOT NULL,
-                    y      INTEGER NOT NULL,
-                    z      INTEGER NOT NULL,
-                    type   TEXT NOT NULL,
-                    data   INTEGER NOT NULL,
-                    PRIMARY KEY(region, world, x, y, z)
+                CREATE TABLE IF NOT EXISTS snapshot_palette (
+                    id   INTEGER PRIMARY KEY AUTOINCREMENT,
+                    data TEXT NOT NULL UNIQUE
+                );
+            """);
+
+            // the only place a region's name is stored; every other row references the id
+            st.execute("""
+                CREATE TABLE IF NOT EXISTS region_catalog (
+                    id   INTEGER PRIMARY KEY,
+                    name TEXT NOT NULL
+                );
+            """);
+
+            createSnapshotTables(st, "");
+
+            st.execute("""
+                CREATE TABLE IF NOT EXISTS startup_progress (
+                    subject TEXT NOT NULL PRIMARY KEY,
+                    state   TEXT NOT NULL,
+                    updated INTEGER NOT NULL
                 );
             """);
 
-            st.execute("CREATE INDEX IF NOT EXISTS idx_snapshot_region ON region_snapshots(region);");
+            if (!columnExists("snapshot_sections", "generation")) {
+                st.execute("ALTER TABLE snapshot_sections ADD COLUMN generation INTEGER NOT NULL DEFAULT 0;");
+            }
+            if (!columnExists("snapshot_sections", "hash")) {
+                st.execute("ALTER TABLE snapshot_sections ADD COLUMN hash INTEGER NOT NULL DEFAULT 0;");
+            }
+
+            // older versions keyed rows by lowercase region name
+            if ("TEXT".equalsIgnoreCase(columnType("snapshot_sections", "region"))) migrateRegionIds(st);
+        }
+    }
+
+    /**
+     * {@code region} is the region's stable id (see {@link newgen.decayregion.region.RegionManager}).
+     */
+    private void createSnapshotTables(Statement st, String suffix) throws SQLException {
+        st.execute("""
+            CREATE TABLE IF NOT EXISTS snapshot_sections%s (
+                region  INTEGER NOT NULL,
+                world   TEXT NOT NULL,
+                cx      INTEGER NOT NULL,
+                cy      INTEGER NOT NULL,
+                cz      INTEGER NOT NULL,
+                palette BLOB NOT NULL,
+                bits    INTEGER NOT NULL,
+                data    BLOB NOT NULL,
+                generation INTEGER NOT NULL DEFAULT 0,
+                hash    INTEGER NOT NULL DEFAULT 0,
+                PRIMARY KEY(region, cx, cy, cz)
+            );
+        """.formatted(suffix));
+
+        st.execute("""
+            CREATE TABLE IF NOT EXISTS snapshot_regions%s (
+                region     INTEGER NOT NULL PRIMARY KEY,
+                generation INTEGER NOT NULL
+            );
+        """.formatted(suffix));
+    }
+
+    /**
+     * Rebuilds the snapshot tables with the region name replaced by the region id, in one transaction.
+     * Snapshots of regions that no longer exist are dropped. Region startup progress moves to
+     * {@code region:<id>} subjects.
+     */
+    private void migrateRegionIds(Statement st) throws SQLException {
+        String[][] tables = {
+                {"snapshot_sections", "world, cx, cy, cz, palette, bits, data, generation, hash"},
+                {"snapshot_regions", "generation"}
+        };
+
+        boolean prev = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            createSnapshotTables(st, "_v2");
+
+            for (String[] t : tables) {
+                try (PreparedStatement ps = conn.prepareStatement("INSERT OR REPLACE INTO " + t[0] + "_v2(region, " + t[1]
+                        + ") SELECT ?, " + t[1] + " FROM " + t[0] + " WHERE region=?")) {
+                    for (DecayRegion region : plugin.getRegionManager().getRegions()) {
+                        ps.setInt(1, region.getId());
+                        ps.setString(2, region.getName().toLowerCase());
+                        ps.executeUpdate();
+                    }
+                }
+
+                st.execute("DROP TABLE " + t[0]);
+                st.execute("ALTER TABLE " + t[0] + "_v2 RENAME TO " + t[0]);
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "UPDATE OR REPLACE startup_progress SET subject=? WHERE subject=?")) {
+                for (DecayRegion region : plugin.getRegionManager().getRegions()) {
+                    ps.setString(1, progressSubject(region));
+                    ps.setString(2, region.getName().toLowerCase());
+                    ps.executeUpdate();
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(prev);
+        }
+
+        plugin.getLogger().info("[SnapshotStore] Migrated snapshots from region names to region ids.");
+    }
+
+    /**
+     * Writes every loaded region's id and current name to {@code region_catalog}.
+     */
+    private void syncCatalog() throws SQLException {
+        try (PreparedStatement ps = catalogUpsert()) {
+            for (DecayRegion region : plugin.getRegionManager().getRegions()) {
+                ps.setInt(1, region.getId());
+                ps.setString(2, region.getName());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private PreparedStatement catalogUpsert() throws SQLException {
+        return conn.prepareStatement("INSERT INTO region_catalog(id, name) VALUES(?,?) " +
+                "ON CONFLICT(id) DO UPDATE SET name=excluded.name");
+    }
+
+    /**
+     * Startup progress subject of a region.
+     */
+    public static String progressSubject(DecayRegion region) {
+        return "region:" + region.getId();
+    }
+
+    private String columnType(String table, String column) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return rs.getString("type");
+            }
+        }
+        return null;
+    }
+
+    private boolean columnExists(String table, String column) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tableExists(String table) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT name FROM sqlite_master WHERE type='table' AND name=? LIMIT 1")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private void loadPalette() throws SQLException {
+        stagedPalette.clear();
+        paletteIds.clear();
+        paletteStates.clear();
+        blockDataCache.clear();
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT id, data FROM snapshot_palette")) {
+            while (rs.next()) {
+                paletteIds.put(rs.getString(2), rs.getInt(1));
+                paletteStates.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+    }
+
+    private void loadGenerations() throws SQLException {
+        generations.clear();
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT region, generation FROM snapshot_regions")) {
+            while (rs.next()) generations.put(rs.getInt(1), rs.getInt(2));
         }
     }
 
-    public synchronized boolean snapshotRegion(DecayRegion region) {
-        if (conn == null || region == null) return false;
+    private int nextGeneration(int key) throws SQLException {
+        int generation = generations.getOrDefault(key, 0) + 1;
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT OR REPLACE INTO snapshot_regions(region, generation) VALUES(?,?)")) {
+            ps.setInt(1, key);
+            ps.setInt(2, generation);
+            ps.executeUpdate();
+        }
+
+        return generation;
+    }
+
+    private int paletteId(String state) throws SQLException {
+        Integer id = paletteIds.get(state);
+        if (id == null) id = stagedPalette.get(state);
+        if (id != null) return id;
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO snapshot_palette(data) VALUES(?)", Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, state);
+            ps.executeUpdate();
+            try (ResultSet rs = ps.getGeneratedKeys()) {
+                if (!rs.next()) throw new SQLException("No id returned for palette entry " + state);
+                id = rs.getInt(1);
+            }
+        }
+
+        stagedPalette.put(state, id);
+        return id;
+    }
+
+    /**
+     * Call after a commit: the staged palette rows are now durable.
+     */
+    private void publishPalette() {
+        for (Map.Entry<String, Integer> e : stagedPalette.entrySet()) {
+            paletteIds.put(e.getKey(), e.getValue());
+            paletteStates.put(e.getValue(), e.getKey());
+        }
+        stagedPalette.clear();
+    }
+
+    /**
+     * Call after a rollback: the staged ids no longer exist and may be handed out again.
+     */
+    private void discardPalette() {
+        stagedPalette.clear();
+    }
+
+    /**
+     * Resolves a palette entry to {@link BlockData} once; later sections and restores reuse the instance.
+     * Returns null for states this server version cannot parse.
+     */
+    private BlockData blockData(int paletteId) {
+        BlockData cached = blockDataCache.get(paletteId);
+        if (cached != null) return cached;
+
+        String state = paletteStates.get(paletteId);
+        if (state == null) return null;
+
+        try {
+            BlockData data = Bukkit.createBlockData(state);
+            blockDataCache.put(paletteId, data);
+            return data;
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("[SnapshotStore] Unknown block state in snapshot: " + state);
+            return null;
+        }
+    }
+
+    private static byte[] packPaletteIds(int[] ids) {
+        ByteBuffer buf = ByteBuffer.allocate(ids.length * Integer.BYTES);
+        for (int id : ids) buf.putInt(id);
+        return buf.array();
+    }
+
+    private static int[] unpackPaletteIds(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        int[] ids = new int[bytes.length / Integer.BYTES];
+        for (int i = 0; i < ids.length; i++) ids[i] = buf.getInt();
+        return ids;
+    }
+
+    private List<String> paletteStates(int[] ids) {
+        List<String> states = new ArrayList<>(ids.length);
+        for (int id : ids) states.add(paletteStates.getOrDefault(id, ""));
+        return states;
+    }
+
+    /**
+     * Converts the old one-row-per-block {@code region_snapshots} table into paletted sections.
+     * The legacy table only kept the material name, so each entry becomes that material's default state.
+     */
+    private void migrateLegacySnapshots() throws SQLException {
+        if (!tableExists("region_snapshots")) return;
+
+        Map<String, String> worlds = new HashMap<>();
+        Map<String, Map<Long, PalettedSection>> byRegion = new HashMap<>();
+        Map<String, String> stateByType = new HashMap<>();
+        int rows = 0;
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT region, world, x, y, z, type FROM region_snapshots")) {
+            while (rs.next()) {
+                String region = rs.getString(1);
+                int x = rs.getInt(3), y = rs.getInt(4), z = rs.getInt(5);
+
+                String state = stateByType.computeIfAbsent(rs.getString(6), type -> {
+                    Material mat = Material.matchMaterial(type);
+                    return mat != null && mat.isBlock() ? mat.createBlockData().getAsString() : "";
+                });
+                if (state.isEmpty()) continue;
+
+                worlds.putIfAbsent(region, rs.getString(2));
+                sectionFor(byRegion.computeIfAbsent(region, k -> new HashMap<>()), x >> 4, y >> 4, z >> 4)
+                        .set(x & 15, y & 15, z & 15, state);
+                rows++;
+            }
+        }
+
+        for (Map.Entry<String, Map<Long, PalettedSection>> e : byRegion.entrySet()) {
+            DecayRegion region = plugin.getRegionManager().getRegion(e.getKey());
+            if (region != null) writeSections(region.getId(), worlds.get(e.getKey()), e.getValue().values());
+        }
+
+        try (Statement st = conn.createStatement()) {
+            st.execute("DROP TABLE region_snapshots;");
+        }
+
+        plugin.getLogger().info("[SnapshotStore] Migrated " + rows + " legacy snapshot rows into "
+                + byRegion.values().stream().mapToInt(Map::size).sum() + " sections.");
+    }
+
+    /**
+     * Moves sections that still carry their palette as newline-joined strings
+     * into the shared {@code snapshot_palette} table.
+     */
+    private void migrateStringPaletteSections() throws SQLException {
+        if (!tableExists("region_snapshot_sections")) return;
+
+        Map<String, String> worlds = new HashMap<>();
+        Map<String, List<PalettedSection>> byRegion = new HashMap<>();
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(
+                     "SELECT region, world, cx, cy, cz, palette, bits, data FROM region_snapshot_sections")) {
+            while (rs.next()) {
+                String region = rs.getString(1);
+                worlds.putIfAbsent(region, rs.getString(2));
+
+                String text = rs.getString(6);
+                List<String> palette = text == null || text.isEmpty() ? List.of() : List.of(text.split("\n"));
+
+                byRegion.computeIfAbsent(region, k -> new ArrayList<>()).add(PalettedSection.decode(
+                        rs.getInt(3), rs.getInt(4), rs.getInt(5), palette, rs.getInt(7), rs.getBytes(8)));
+            }
+        }
+
+        for (Map.Entry<String, List<PalettedSection>> e : byRegion.entrySet()) {
+            DecayRegion region = plugin.getRegionManager().getRegion(e.getKey());
+            if (region != null) writeSections(region.getId(), worlds.get(e.getKey()), e.getValue());
+        }
+
+        try (Statement st = conn.createStatement()) {
+            st.execute("DROP TABLE region_snapshot_sections;");
+        }
+
+        plugin.getLogger().info("[SnapshotStore] Moved " + byRegion.values().stream().mapToInt(List::size).sum()
+                + " snapshot sections to the shared block-data palette (" + (paletteIds.size() + stagedPalette.size()) + " states).");
+    }
+
+    private static PalettedSection sectionFor(Map<Long, PalettedSection> sections, int cx, int cy, int cz) {
+        return sections.computeIfAbsent(SnapshotDirtyTracker.sectionKey(cx, cy, cz), k -> new PalettedSection(cx, cy, cz));
+    }
+
+
+    private void writeSections(int key, String worldName, Collection<PalettedSection> sections) throws SQLException {
+        writeSections(key, worldName, sections, generations.getOrDefault(key, 0));
+    }
+
+    /**
+     * Upserts each section with the given generation; sections that captured nothing are deleted.
+     */
+    private void writeSections(int key, String worldName, Collection<PalettedSection> sections, int generation) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT OR REPLACE INTO snapshot_sections(region, world, cx, cy, cz, palette, bits, data, generation, hash) VALUES(?,?,?,?,?,?,?,?,?,?)");
+             PreparedStatement del = conn.prepareStatement(
+                     "DELETE FROM snapshot_sections WHERE region=? AND cx=? AND cy=? AND cz=?")) {
+
+            for (PalettedSection section : sections) {
+                if (section.isEmpty()) {
+                    del.setInt(1, key);
+                    del.setInt(2, section.getSectionX());
+                    del.setInt(3, section.getSectionY());
+                    del.setInt(4, section.getSectionZ());
+                    del.addBatch();
+                    continue;
+                }
+
+                List<String> states = section.getPalette();
+                int[] ids = new int[states.size()];
+                for (int i = 0; i < ids.length; i++) ids[i] = paletteId(states.get(i));
+
+                ps.setInt(1, key);
+                ps.setString(2, worldName);
+                ps.setInt(3, section.getSectionX());
+                ps.setInt(4, section.getSectionY());
+                ps.setInt(5, section.getSectionZ());
+                ps.setBytes(6, packPaletteIds(ids));
+                ps.setInt(7, section.getBits());
+                ps.setBytes(8, section.packIndices());
+                ps.setInt(9, generation);
+                ps.setLong(10, section.getContentHash());
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+            del.executeBatch();
+        }
+    }
+
+    /**
+     * Captures the region's chunks on the main thread, encodes each section on the worker pool
+     * and persists the result off-thread. The stored section hashes are read on the worker pool first. When the region already has a snapshot and {@code snapshot.incremental}
+     * is on, every section's live content hash is compared with the stored one and only sections that differ
+     * (or that block events marked dirty) are re-encoded and rewritten; changes made without events are caught too.
+     * {@code callback} runs on the main thread with the outcome.
+     */
+    public void snapshotRegion(DecayRegion region, Consumer<Boolean> callback) {
+        snapshotRegion(region, false, callback);
+    }
+
+    public void snapshotRegion(DecayRegion region, boolean forceFull, Consumer<Boolean> callback) {
+        if (conn == null || region == null) {
+            callback.accept(false);
+            return;
+        }
 
         World world = Bukkit.getWorld(region.getWorldName());
-        if (world == null) return false;
+        if (world == null) {
+            callback.accept(false);
+            return;
+        }
 
         long volume =
                 (long) (region.getMaxX() - region.getMinX() + 1)
@@ -99,84 +601,604 @@ public class RegionSnapshotStore {
         if (volume > maxVolume) {
             plugin.getLogger().warning("[SnapshotStore] Snapshot refused: region "
                     + region.getName() + " volume=" + volume + " > " + maxVolume);
-            return false;
+            callback.accept(false);
+            return;
         }
 
         boolean nonAirOnly = plugin.getCfg().getBoolean("snapshot.save-non-air-only", false);
-        String key = region.getName().toLowerCase();
+        int key = region.getId();
+        String worldName = world.getName();
 
-        try {
+        if (!inFlight.add(key)) {
+            plugin.getLogger().warning("[SnapshotStore] Snapshot already running for region " + region.getName());
+            callback.accept(false);
+            return;
+        }
+
+        boolean incremental = !forceFull
+                && plugin.getCfg().getBoolean("snapshot.incremental", true)
+                && generations.containsKey(key);
 
-            try (PreparedStatement del = conn.prepareStatement(
-                    "DELETE FROM region_snapshots WHERE region=?")) {
-                del.setString(1, key);
-                del.executeUpdate();
+        if (!incremental) {
+            captureSnapshot(region, world, nonAirOnly, false, Map.of(), callback);
+            return;
+        }
+
+        readAsync(() -> loadSectionHashes(region), Map.<Long, Long>of(), stored -> {
+            if (Bukkit.getWorld(worldName) != world) {
+                inFlight.remove(key);
+                callback.accept(false);
+                return;
             }
+            captureSnapshot(region, world, nonAirOnly, true, stored, callback);
+        });
+    }
 
-            try (PreparedStatement ps = conn.prepareStatement(
-                    "INSERT INTO region_snapshots(region, world, x, y, z, type, data) VALUES(?,?,?,?,?,?,?)")) {
+    /**
+     * Main thread. {@code stored} holds the section hashes of the current snapshot (empty for a full one).
+     */
+    private void captureSnapshot(DecayRegion region, World world, boolean nonAirOnly, boolean incremental,
+                                 Map<Long, Long> stored, Consumer<Boolean> callback) {
+        int key = region.getId();
+        String name = region.getName();
+        String worldName = world.getName();
 
-                for (int x = region.getMinX(); x <= region.getMaxX(); x++) {
-                    for (int y = region.getMinY(); y <= region.getMaxY(); y++) {
-                        for (int z = region.getMinZ(); z <= region.getMaxZ(); z++) {
+        Set<Long> dirty = dirtyTracker.drain(key);
+        dirtyTracker.markClean(key);
 
-                            Block b = world.getBlockAt(x, y, z);
-                            Material mat = b.getType();
+        long started = System.nanoTime();
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        List<CompletableFuture<PalettedSection>> futures = new ArrayList<>();
 
-                            if (nonAirOnly && mat == Material.AIR) continue;
+        try {
+            for (int cx = region.getMinX() >> 4; cx <= region.getMaxX() >> 4; cx++) {
+                for (int cz = region.getMinZ() >> 4; cz <= region.getMaxZ() >> 4; cz++) {
+                    for (int cy = region.getMinY() >> 4; cy <= region.getMaxY() >> 4; cy++) {
+                        long section = SnapshotDirtyTracker.sectionKey(cx, cy, cz);
+                        // hash 0 = stored before hashes existed, never trusted
+                        long storedHash = incremental && !dirty.contains(section) ? stored.getOrDefault(section, 0L) : 0L;
 
-                            ps.setString(1, key);
-                            ps.setString(2, world.getName());
-                            ps.setInt(3, x);
-                            ps.setInt(4, y);
-                            ps.setInt(5, z);
-                            ps.setString(6, mat.name());
-                            ps.setInt(7, b.getBlockData().getAsString().hashCode());
-                            ps.addBatch();
-                        }
+                        int chunkX = cx, chunkZ = cz, sy = cy;
+                        ChunkSnapshot chunk = chunks.computeIfAbsent(SnapshotDirtyTracker.sectionKey(cx, 0, cz),
+                                k -> world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+
+                        futures.add(CompletableFuture.supplyAsync(() -> {
+                            if (storedHash != 0L && liveHash(chunk, region, sy) == storedHash) return null;
+                            return captureSection(chunk, region, sy, nonAirOnly);
+                        }, workers));
                     }
                 }
+            }
+        } catch (Exception e) {
+            inFlight.remove(key);
+            dirtyTracker.forget(key);
+            plugin.getLogger().log(Level.WARNING,
+                    "[SnapshotStore] snapshotRegion failed: " + region.getName(), e);
+            callback.accept(false);
+            return;
+        }
 
-                ps.executeBatch();
-                conn.commit();
-                return true;
+        AtomicInteger rewritten = new AtomicInteger();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(v -> {
+                    List<PalettedSection> sections = new ArrayList<>(futures.size());
+                    for (CompletableFuture<PalettedSection> f : futures) {
+                        PalettedSection section = f.join();
+                        if (section != null) sections.add(section);
+                    }
+                    rewritten.set(sections.size());
+                    return persistSnapshot(key, name, worldName, sections, !incremental);
+                }, workers)
+                .exceptionally(ex -> {
+                    plugin.getLogger().log(Level.WARNING,
+                            "[SnapshotStore] snapshotRegion failed: " + region.getName(), ex);
+                    return false;
+                })
+                .thenAccept(ok -> {
+                    inFlight.remove(key);
+                    if (ok) {
+                        plugin.getLogger().info("[SnapshotStore] Saved " + (incremental ? "incremental " : "")
+                                + "snapshot " + region.getName()
+                                + " (" + rewritten.get() + "/" + futures.size() + " sections written, generation " + generations.getOrDefault(key, 0) + ", "
+                                + (System.nanoTime() - started) / 1_000_000L + " ms)");
+                    }
+                    if (plugin.isEnabled()) {
+                        Bukkit.getScheduler().runTask(plugin, () -> {
+                            // the events seen since the last save are lost with a failed write
+                            if (!ok) dirtyTracker.forget(key);
+                            callback.accept(ok);
+                        });
+                    }
+                });
+    }
+
+    private synchronized boolean persistSnapshot(int key, String name, String worldName, List<PalettedSection> sections, boolean replaceAll) {
+        if (conn == null || deleted.contains(key)) return false;
+
+        try {
+            if (replaceAll) {
+                try (PreparedStatement del = conn.prepareStatement(
+                        "DELETE FROM snapshot_sections WHERE region=?")) {
+                    del.setInt(1, key);
+                    del.executeUpdate();
+                }
             }
 
+            try (PreparedStatement catalog = catalogUpsert()) {
+                catalog.setInt(1, key);
+                catalog.setString(2, name);
+                catalog.executeUpdate();
+            }
+
+            int generation = nextGeneration(key);
+            writeSections(key, worldName, sections, generation);
+            Map<String, String> progress = writeStartupProgress();
+            conn.commit();
+            progress.forEach(pendingProgress::remove);
+            publishPalette();
+            generations.put(key, generation);
+            return true;
+
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING,
-                    "[SnapshotStore] snapshotRegion failed: " + region.getName(), e);
+                    "[SnapshotStore] persist snapshot failed: " + name, e);
             try { conn.rollback(); } catch (Exception ignored) {}
+            discardPalette();
             return false;
         }
     }
 
-    public synchronized void restoreRegion(DecayRegion region) {
-        if (conn == null || region == null) return;
+    public SnapshotDirtyTracker getDirtyTracker() {
+        return dirtyTracker;
+    }
+
+    /**
+     * Generation of the region's latest snapshot write, or 0 when it has none.
+     */
+    public int getGeneration(DecayRegion region) {
+        return region == null ? 0 : generations.getOrDefault(region.getId(), 0);
+    }
+
+    /**
+     * Sections changed since the region last matched its snapshot; -1 when unknown in this session.
+     */
+    public int countStaleSections(DecayRegion region) {
+        if (region == null) return -1;
+        int key = region.getId();
+        return dirtyTracker.hasBaseline(key) ? dirtyTracker.countDirty(key) : -1;
+    }
+
+    /**
+     * Runs on a worker thread; only reads the immutable {@link ChunkSnapshot}.
+     * Positions are visited in section index order so the content hash matches {@link #liveHash}.
+     */
+    private static PalettedSection captureSection(ChunkSnapshot chunk, DecayRegion region, int cy, boolean nonAirOnly) {
+        int cx = chunk.getX(), cz = chunk.getZ();
+        PalettedSection section = new PalettedSection(cx, cy, cz);
+        Map<BlockData, String> names = new HashMap<>();
+        long hash = PalettedSection.HASH_SEED;
+
+        int x0 = Math.max(region.getMinX(), cx << 4), x1 = Math.min(region.getMaxX(), (cx << 4) + 15);
+        int y0 = Math.max(region.getMinY(), cy << 4), y1 = Math.min(region.getMaxY(), (cy << 4) + 15);
+        int z0 = Math.max(region.getMinZ(), cz << 4), z1 = Math.min(region.getMaxZ(), (cz << 4) + 15);
+
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    if (nonAirOnly && chunk.getBlockType(x & 15, y, z & 15) == Material.AIR) {
+                        hash = PalettedSection.hashStep(hash, AIR_STATE);
+                        continue;
+                    }
+
+                    BlockData data = chunk.getBlockData(x & 15, y, z & 15);
+                    String state = names.computeIfAbsent(data, BlockData::getAsString);
+                    section.set(x & 15, y & 15, z & 15, state);
+                    hash = PalettedSection.hashStep(hash, state);
+                }
+            }
+        }
+
+        section.setContentHash(hash);
+        return section;
+    }
+
+    /**
+     * Content hash of the live section, computed the same way as at capture. Worker thread.
+     */
+    private static long liveHash(ChunkSnapshot chunk, DecayRegion region, int cy) {
+        int cx = chunk.getX(), cz = chunk.getZ();
+        Map<BlockData, String> names = new HashMap<>();
+        long hash = PalettedSection.HASH_SEED;
+
+        int x0 = Math.max(region.getMinX(), cx << 4), x1 = Math.min(region.getMaxX(), (cx << 4) + 15);
+        int y0 = Math.max(region.getMinY(), cy << 4), y1 = Math.min(region.getMaxY(), (cy << 4) + 15);
+        int z0 = Math.max(region.getMinZ(), cz << 4), z1 = Math.min(region.getMaxZ(), (cz << 4) + 15);
+
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    BlockData data = chunk.getBlockData(x & 15, y, z & 15);
+                    hash = PalettedSection.hashStep(hash, names.computeIfAbsent(data, BlockData::getAsString));
+                }
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Blocks written versus left alone by one restore.
+     */
+    public record RestoreResult(int written, int skipped) {
+
+        public static final RestoreResult NONE = new RestoreResult(0, 0);
+    }
+
+    record LoadedSection(PalettedSection section, BlockData[] resolved) {}
+
+    /**
+     * Restores the region from its snapshot. In {@code diff} mode (default) the live blocks are compared
+     * against the snapshot on the worker pool using {@link ChunkSnapshot}s, so only differing positions
+     * are written. Writes are queued as a {@link RestoreJob} and spread over ticks.
+     * Both callbacks run on the main thread; {@code progress} receives (written, planned).
+     */
+    public void restoreRegion(DecayRegion region, BiConsumer<Integer, Integer> progress, Consumer<RestoreResult> callback) {
+        restoreSections(region, null, null, progress, callback);
+    }
+
+    public void restoreRegion(DecayRegion region, Consumer<RestoreResult> callback) {
+        restoreRegion(region, null, callback);
+    }
+
+    /**
+     * Like {@link #restoreRegion(DecayRegion, Consumer)}, but never writes the {@code keep} positions.
+     */
+    public void restoreRegionExcept(DecayRegion region, Set<BlockKey> keep, Consumer<RestoreResult> callback) {
+        restoreSections(region, null, keep, null, callback);
+    }
+
+    /**
+     * Startup restore: hashes the live sections from {@link ChunkSnapshot}s on the worker pool and only
+     * restores sections whose hash differs from the one stored with the snapshot. Sections saved before
+     * hashes existed (hash 0) are always checked. The {@code keep} positions (may be null) are never written.
+     */
+    public void restoreChangedSections(DecayRegion region, Set<BlockKey> keep, Consumer<RestoreResult> callback) {
+        if (region == null) {
+            callback.accept(RestoreResult.NONE);
+            return;
+        }
+
+        World world = Bukkit.getWorld(region.getWorldName());
+        if (world == null) {
+            callback.accept(RestoreResult.NONE);
+            return;
+        }
+
+        readAsync(() -> loadSectionHashes(region), Map.<Long, Long>of(), stored -> {
+            if (stored.isEmpty() || Bukkit.getWorld(region.getWorldName()) != world) {
+                callback.accept(RestoreResult.NONE);
+                return;
+            }
+            checkChangedSections(region, world, stored, keep, callback);
+        });
+    }
+
+    private void checkChangedSections(DecayRegion region, World world, Map<Long, Long> stored,
+                                      Set<BlockKey> keep, Consumer<RestoreResult> callback) {
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        Map<Long, CompletableFuture<Long>> live = new HashMap<>();
+
+        for (Map.Entry<Long, Long> e : stored.entrySet()) {
+            long key = e.getKey();
+            if (e.getValue() == 0L) continue;
+
+            int cx = SnapshotDirtyTracker.sectionX(key), cy = SnapshotDirtyTracker.sectionY(key), cz = SnapshotDirtyTracker.sectionZ(key);
+            ChunkSnapshot chunk = chunks.computeIfAbsent(SnapshotDirtyTracker.sectionKey(cx, 0, cz),
+                    k -> world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false));
+
+            live.put(key, CompletableFuture.supplyAsync(() -> liveHash(chunk, region, cy), workers));
+        }
+
+        CompletableFuture.allOf(live.values().toArray(new CompletableFuture[0]))
+                .whenComplete((v, ex) -> {
+                    if (!plugin.isEnabled()) return;
+
+                    Set<Long> changed = new HashSet<>();
+                    for (Map.Entry<Long, Long> e : stored.entrySet()) {
+                        CompletableFuture<Long> f = live.get(e.getKey());
+                        if (f == null || f.isCompletedExceptionally() || f.join().longValue() != e.getValue()) {
+                            changed.add(e.getKey());
+                        }
+                    }
+
+                    plugin.getLogger().info("[SnapshotStore] Startup check " + region.getName() + ": "
+                            + changed.size() + "/" + stored.size() + " sections differ from the snapshot");
+
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        if (changed.isEmpty()) {
+                            dirtyTracker.markClean(region.getId());
+                            callback.accept(RestoreResult.NONE);
+                            return;
+                        }
+                        restoreSections(region, changed, keep, null, callback);
+                    });
+                });
+    }
+
+    // =========================
+    // STARTUP PROGRESS
+    // =========================
+
+    /**
+     * Records how far startup got for a region (or a whole stage), so a crash part-way through
+     * is visible on the next start. Only queued here; the queue is written in one transaction on the
+     * worker pool, or together with a snapshot write that gets there first.
+     */
+    public void markStartupProgress(String subject, String state) {
+        if (conn == null) return;
+
+        pendingProgress.put(subject, state);
+        if (!progressFlushQueued.compareAndSet(false, true)) return;
+
+        try {
+            workers.execute(this::flushStartupProgress);
+        } catch (RejectedExecutionException e) {
+            flushStartupProgress();
+        }
+    }
+
+    private synchronized void flushStartupProgress() {
+        progressFlushQueued.set(false);
+        if (conn == null || pendingProgress.isEmpty()) return;
+
+        try {
+            Map<String, String> written = writeStartupProgress();
+            conn.commit();
+            written.forEach(pendingProgress::remove);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[SnapshotStore] markStartupProgress failed: " + e.getMessage());
+            try { conn.rollback(); } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * Writes the queued progress into the open transaction; the caller commits and then drops the
+     * returned entries from the queue (a newer state queued meanwhile stays).
+     */
+    private Map<String, String> writeStartupProgress() throws SQLException {
+        Map<String, String> batch = new HashMap<>(pendingProgress);
+        if (batch.isEmpty()) return batch;
+
+        long now = System.currentTimeMillis();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO startup_progress(subject, state, updated) VALUES(?,?,?) " +
+                        "ON CONFLICT(subject) DO UPDATE SET state=excluded.state, updated=excluded.updated")) {
+            for (Map.Entry<String, String> e : batch.entrySet()) {
+                ps.setString(1, e.getKey());
+                ps.setString(2, e.getValue());
+                ps.setLong(3, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        return batch;
+    }
+
+    public synchronized Map<String, String> loadStartupProgress() {
+        Map<String, String> out = new HashMap<>();
+        if (conn == null) return out;
+
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT subject, state FROM startup_progress")) {
+            while (rs.next()) out.put(rs.getString(1), rs.getString(2));
+        } catch (Exception e) {
+            plugin.getLogger().warning("[SnapshotStore] loadStartupProgress failed: " + e.getMessage());
+        }
+        return out;
+    }
+
+    /**
+     * Runs a database read on the worker pool and hands the result to the main thread, so the main thread
+     * never waits on the lock a snapshot write holds. {@code fallback} is used when the pool is already shut down.
+     */
+    private <T> void readAsync(Supplier<T> read, T fallback, Consumer<T> onMain) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(read, workers);
+        } catch (RejectedExecutionException e) {
+            onMain.accept(fallback);
+            return;
+        }
+
+        future.whenComplete((result, ex) -> {
+            if (!plugin.isEnabled()) return;
+            T value = ex != null ? fallback : result;
+            Bukkit.getScheduler().runTask(plugin, () -> onMain.accept(value));
+        });
+    }
+
+    private synchronized Map<Long, Long> loadSectionHashes(DecayRegion region) {
+        Map<Long, Long> out = new HashMap<>();
+        if (conn == null) return out;
+
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT cx, cy, cz, hash FROM snapshot_sections WHERE region=?")) {
+            ps.setInt(1, region.getId());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    out.put(SnapshotDirtyTracker.sectionKey(rs.getInt(1), rs.getInt(2), rs.getInt(3)), rs.getLong(4));
+                }
+            }
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING,
+                    "[SnapshotStore] loadSectionHashes failed: " + region.getName(), e);
+        }
+
+        return out;
+    }
+
+    /**
+     * @param only section keys to restore, or null for the whole region
+     * @param keep positions never written, or null
+     */
+    private void restoreSections(DecayRegion region, Set<Long> only, Set<BlockKey> keep,
+                                 BiConsumer<Integer, Integer> progress, Consumer<RestoreResult> callback) {
+        if (region == null) {
+            callback.accept(RestoreResult.NONE);
+            return;
+        }
 
         World world = Bukkit.getWorld(region.getWorldName());
-        if (world == null) return;
+        if (world == null) {
+            callback.accept(RestoreResult.NONE);
+            return;
+        }
+
+        readAsync(() -> loadSections(region, only), List.<LoadedSection>of(), sections -> {
+            if (sections.isEmpty() || Bukkit.getWorld(region.getWorldName()) != world) {
+                callback.accept(RestoreResult.NONE);
+                return;
+            }
+            restoreLoaded(region, world, sections, keep, progress, callback);
+        });
+    }
+
+    private void restoreLoaded(DecayRegion region, World world, List<LoadedSection> sections, Set<BlockKey> keep,
+                               BiConsumer<Integer, Integer> progress, Consumer<RestoreResult> callback) {
+        boolean diff = !"full".equalsIgnoreCase(plugin.getCfg().getString("snapshot.restore-mode", "diff"));
+
+        if (!diff) {
+            List<int[]> all = new ArrayList<>(Collections.nCopies(sections.size(), (int[]) null));
+            enqueueRestore(new RestoreJob(region, world, sections, all, keep, progress, callback));
+            return;
+        }
+
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        List<CompletableFuture<int[]>> futures = new ArrayList<>(sections.size());
+
+        for (LoadedSection s : sections) {
+            PalettedSection section = s.section();
+            ChunkSnapshot chunk = chunks.computeIfAbsent(
+                    SnapshotDirtyTracker.sectionKey(section.getSectionX(), 0, section.getSectionZ()),
+                    k -> world.getChunkAt(section.getSectionX(), section.getSectionZ())
+                            .getChunkSnapshot(false, false, false));
+
+            futures.add(CompletableFuture.supplyAsync(() -> diffSection(chunk, s), workers));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((v, ex) -> {
+                    if (!plugin.isEnabled()) return;
 
-        String key = region.getName().toLowerCase();
+                    if (ex != null) {
+                        plugin.getLogger().log(Level.WARNING,
+                                "[SnapshotStore] diff failed, affected sections are restored in full: " + region.getName(), ex);
+                    }
+
+                    List<int[]> changed = new ArrayList<>(futures.size());
+                    for (CompletableFuture<int[]> f : futures) {
+                        changed.add(f.isCompletedExceptionally() ? null : f.join());
+                    }
+
+                    Bukkit.getScheduler().runTask(plugin, () ->
+                            enqueueRestore(new RestoreJob(region, world, sections, changed, keep, progress, callback)));
+                });
+    }
+
+    // =========================
+    // TICK-SLICED RESTORE
+    // =========================
+
+    private void enqueueRestore(RestoreJob job) {
+        restoreQueue.removeIf(running -> {
+            if (running.getKey() != job.getKey()) return false;
+            plugin.getLogger().info("[SnapshotStore] Restore of " + running.getRegion().getName()
+                    + " superseded after " + running.getWritten() + "/" + running.getTotal() + " blocks");
+            running.complete();
+            return true;
+        });
+
+        restoreQueue.add(job);
+        dirtyTracker.markClean(job.getKey());
+
+        if (restorePump == null) {
+            restorePump = Bukkit.getScheduler().runTaskTimer(plugin, this::pumpRestores, 1L, 1L);
+        }
+    }
+
+    private void pumpRestores() {
+        int budget = Math.max(1, plugin.getCfg().getInt("snapshot.restore-blocks-per-tick", 20000));
+        long maxMillis = Math.max(1L, plugin.getCfg().getLong("snapshot.restore-millis-per-tick", 10L));
+        long deadline = System.nanoTime() + maxMillis * 1_000_000L;
+
+        while (!restoreQueue.isEmpty() && budget > 0 && System.nanoTime() < deadline) {
+            RestoreJob job = restoreQueue.peek();
+            budget -= job.step(budget, deadline);
+
+            if (job.isDone()) {
+                restoreQueue.poll();
+                RestoreResult result = job.getResult();
+                logRestore(job.getRegion(), result.written(), result.skipped());
+                job.complete();
+            }
+        }
+
+        if (restoreQueue.isEmpty() && restorePump != null) {
+            restorePump.cancel();
+            restorePump = null;
+        }
+    }
+
+    /**
+     * Writes everything still queued in one go. Used on shutdown so no region is left half restored.
+     */
+    private void drainRestoresNow() {
+        if (restorePump != null) {
+            restorePump.cancel();
+            restorePump = null;
+        }
+
+        RestoreJob job;
+        while ((job = restoreQueue.poll()) != null) {
+            while (!job.isDone()) job.step(Integer.MAX_VALUE, Long.MAX_VALUE);
+            RestoreResult result = job.getResult();
+            logRestore(job.getRegion(), result.written(), result.skipped());
+        }
+    }
+
+    public int getPendingRestores() {
+        return restoreQueue.size();
+    }
+
+    private void logRestore(DecayRegion region, int written, int skipped) {
+        plugin.getLogger().info("[SnapshotStore] Restored " + region.getName()
+                + ": written=" + written + ", skipped=" + skipped);
+    }
+
+    private synchronized List<LoadedSection> loadSections(DecayRegion region, Set<Long> only) {
+        List<LoadedSection> out = new ArrayList<>();
+        if (conn == null) return out;
 
         try (PreparedStatement ps = conn.prepareStatement(
-                "SELECT x,y,z,type FROM region_snapshots WHERE region=?")) {
+                "SELECT cx, cy, cz, palette, bits, data FROM snapshot_sections WHERE region=?")) {
 
-            ps.setString(1, key);
+            ps.setInt(1, region.getId());
 
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    int x = rs.getInt(1);
-                    int y = rs.getInt(2);
-                    int z = rs.getInt(3);
-                    Material mat;
-
-                    try {
-                        mat = Material.valueOf(rs.getString(4));
-                    } catch (Exception e) {
+                    if (only != null && !only.contains(SnapshotDirtyTracker.sectionKey(rs.getInt(1), rs.getInt(2), rs.getInt(3)))) {
                         continue;
                     }
 
-                    world.getBlockAt(x, y, z).setType(mat, false);
+                    int[] ids = unpackPaletteIds(rs.getBytes(4));
+                    PalettedSection section = PalettedSection.decode(
+                            rs.getInt(1), rs.getInt(2), rs.getInt(3),
+                            paletteStates(ids), rs.getInt(5), rs.getBytes(6));
+
+                    BlockData[] resolved = new BlockData[ids.length];
+                    for (int i = 0; i < ids.length; i++) resolved[i] = blockData(ids[i]);
+
+                    out.add(new LoadedSection(section, resolved));
                 }
             }
 
@@ -184,27 +1206,101 @@ public class RegionSnapshotStore {
             plugin.getLogger().log(Level.WARNING,
                     "[SnapshotStore] restoreRegion failed: " + region.getName(), e);
         }
+
+        return out;
     }
 
-    public synchronized void renameSnapshotKey(String oldName, String newName) {
-        if (conn == null) return;
+    /**
+     * Runs on a worker thread. Returns the section indices whose live block differs from the snapshot.
+     */
+    private static int[] diffSection(ChunkSnapshot chunk, LoadedSection s) {
+        PalettedSection section = s.section();
+        int[] changed = new int[section.getStoredCount()];
+        int count = 0;
 
-        String oldKey = oldName.toLowerCase();
-        String newKey = newName.toLowerCase();
+        for (int i = 0; i < PalettedSection.VOLUME; i++) {
+            int id = section.getRaw(i);
+            if (id == PalettedSection.SKIP) continue;
 
-        if (oldKey.equals(newKey)) return;
+            BlockData want = s.resolved()[id - 1];
+            if (want == null) continue;
 
-        try (PreparedStatement ps = conn.prepareStatement(
-                "UPDATE region_snapshots SET region=? WHERE region=?")) {
+            BlockData live = chunk.getBlockData(PalettedSection.localX(i), section.getWorldY(i), PalettedSection.localZ(i));
+            if (!want.equals(live)) changed[count++] = i;
+        }
 
-            ps.setString(1, newKey);
-            ps.setString(2, oldKey);
+        return Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * Stored rows reference the region id, so a rename only rewrites the region's catalog row.
+     */
+    public synchronized void renameRegion(DecayRegion region) {
+        if (conn == null || region == null) return;
+
+        try (PreparedStatement ps = catalogUpsert()) {
+            ps.setInt(1, region.getId());
+            ps.setString(2, region.getName());
             ps.executeUpdate();
             conn.commit();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING,
+                    "[SnapshotStore] renameRegion failed: " + region.getName(), e);
+            try { conn.rollback(); } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * Drops everything stored for a deleted region: its snapshot, generation, catalog row and startup
+     * progress. Queued restores of it are cancelled here; the rows are deleted on the worker pool.
+     */
+    public void deleteRegion(DecayRegion region) {
+        if (region == null) return;
+        int key = region.getId();
+
+        String name = region.getName();
+        String subject = progressSubject(region);
+
+        deleted.add(key);
+        restoreQueue.removeIf(job -> {
+            if (job.getKey() != key) return false;
+            job.complete();
+            return true;
+        });
+        generations.remove(key);
+        dirtyTracker.forget(key);
+        pendingProgress.remove(subject);
+
+        try {
+            workers.execute(() -> deleteRegionRows(key, name, subject));
+        } catch (RejectedExecutionException e) {
+            deleteRegionRows(key, name, subject);
+        }
+    }
+
+    private synchronized void deleteRegionRows(int key, String name, String subject) {
+        if (conn == null) return;
 
+        try {
+            for (String table : new String[]{"snapshot_sections", "snapshot_regions"}) {
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM " + table + " WHERE region=?")) {
+                    ps.setInt(1, key);
+                    ps.executeUpdate();
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM region_catalog WHERE id=?")) {
+                ps.setInt(1, key);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = conn.prepareStatement("DELETE FROM startup_progress WHERE subject=?")) {
+                ps.setString(1, subject);
+                ps.executeUpdate();
+            }
+            conn.commit();
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING,
-                    "[SnapshotStore] renameSnapshotKey failed", e);
+                    "[SnapshotStore] deleteRegion failed: " + name, e);
+            try { conn.rollback(); } catch (Exception ignored) {}
         }
     }
 }
@@ -0,0 +1,168 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.util.BlockKey;
+import newgen.decayregion.util.PalettedSection;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A snapshot restore spread over several ticks. The work is split per section and ordered so that
+ * sections in chunks closest to online players are written first. Main thread only.
+ */
+public class RestoreJob {
+
+    private record Unit(RegionSnapshotStore.LoadedSection section, int[] indices, long distance) {}
+
+    private final DecayRegion region;
+    private final int key;
+    private final World world;
+    private final List<Unit> units = new ArrayList<>();
+    private final BiConsumer<Integer, Integer> progress;
+    private final Consumer<RegionSnapshotStore.RestoreResult> done;
+
+    private final int total;
+    private final int skipped;
+    private int unitCursor;
+    private int indexCursor;
+    private int written;
+
+    /**
+     * @param changed per section, the indices to write; null entries mean "every captured position"
+     * @param keep    positions never written (e.g. blocks resumed after a restart), or null
+     */
+    RestoreJob(DecayRegion region, World world,
+               List<RegionSnapshotStore.LoadedSection> sections, List<int[]> changed, Set<BlockKey> keep,
+               BiConsumer<Integer, Integer> progress, Consumer<RegionSnapshotStore.RestoreResult> done) {
+        this.region = region;
+        this.key = region.getId();
+        this.world = world;
+        this.progress = progress;
+        this.done = done;
+
+        List<long[]> players = new ArrayList<>();
+        for (Player p : world.getPlayers()) {
+            Location l = p.getLocation();
+            players.add(new long[]{l.getBlockX() >> 4, l.getBlockZ() >> 4});
+        }
+
+        Map<Long, Set<Integer>> kept = new HashMap<>();
+        if (keep != null) {
+            for (BlockKey k : keep) {
+                kept.computeIfAbsent(SnapshotDirtyTracker.sectionKey(k.getX() >> 4, k.getY() >> 4, k.getZ() >> 4),
+                        x -> new HashSet<>()).add(PalettedSection.index(k.getX() & 15, k.getY() & 15, k.getZ() & 15));
+            }
+        }
+
+        int planned = 0, captured = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            RegionSnapshotStore.LoadedSection s = sections.get(i);
+            int[] indices = changed.get(i) != null ? changed.get(i) : allIndices(s);
+
+            PalettedSection section = s.section();
+            Set<Integer> skip = kept.get(SnapshotDirtyTracker.sectionKey(
+                    section.getSectionX(), section.getSectionY(), section.getSectionZ()));
+            if (skip != null) indices = Arrays.stream(indices).filter(idx -> !skip.contains(idx)).toArray();
+
+            captured += s.section().getStoredCount();
+            planned += indices.length;
+            if (indices.length == 0) continue;
+
+            units.add(new Unit(s, indices, nearestPlayer(players, s.section())));
+        }
+
+        units.sort(Comparator.comparingLong(Unit::distance)
+                .thenComparingInt(u -> u.section().section().getSectionY()));
+
+        this.total = planned;
+        this.skipped = Math.max(0, captured - planned);
+    }
+
+    private static long nearestPlayer(List<long[]> players, PalettedSection section) {
+        long best = Long.MAX_VALUE;
+        for (long[] p : players) {
+            long dx = p[0] - section.getSectionX();
+            long dz = p[1] - section.getSectionZ();
+            best = Math.min(best, dx * dx + dz * dz);
+        }
+        return best;
+    }
+
+    private static int[] allIndices(RegionSnapshotStore.LoadedSection s) {
+        PalettedSection section = s.section();
+        int[] out = new int[section.getStoredCount()];
+        int n = 0;
+        for (int i = 0; i < PalettedSection.VOLUME && n < out.length; i++) {
+            if (section.getRaw(i) != PalettedSection.SKIP) out[n++] = i;
+        }
+        return out;
+    }
+
+    /**
+     * Writes up to {@code maxBlocks} blocks, stopping early once {@code deadlineNanos} has passed.
+     * Returns the number of blocks processed in this step.
+     */
+    int step(int maxBlocks, long deadlineNanos) {
+        int processed = 0;
+
+        while (unitCursor < units.size() && processed < maxBlocks) {
+            Unit unit = units.get(unitCursor);
+            PalettedSection section = unit.section().section();
+            BlockData[] resolved = unit.section().resolved();
+
+            while (indexCursor < unit.indices().length && processed < maxBlocks) {
+                int i = unit.indices()[indexCursor++];
+                processed++;
+
+                BlockData data = resolved[section.getRaw(i) - 1];
+                if (data == null) continue;
+
+                world.getBlockAt(section.getWorldX(i), section.getWorldY(i), section.getWorldZ(i))
+                        .setBlockData(data, false);
+                written++;
+
+                if ((processed & 255) == 0 && System.nanoTime() >= deadlineNanos) break;
+            }
+
+            if (indexCursor >= unit.indices().length) {
+                unitCursor++;
+                indexCursor = 0;
+            }
+
+            if (System.nanoTime() >= deadlineNanos) break;
+        }
+
+        if (processed > 0 && progress != null) progress.accept(written, total);
+        return processed;
+    }
+
+    boolean isDone() {
+        return unitCursor >= units.size();
+    }
+
+    void complete() {
+        if (done != null) done.accept(getResult());
+    }
+
+    RegionSnapshotStore.RestoreResult getResult() {
+        return new RegionSnapshotStore.RestoreResult(written, skipped + (total - written));
+    }
+
+    public DecayRegion getRegion() { return region; }
+    public int getKey() { return key; }
+    public int getWritten() { return written; }
+    public int getTotal() { return total; }
+}
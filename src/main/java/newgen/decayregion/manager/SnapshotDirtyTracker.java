@@ -0,0 +1,84 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.region.RegionManager;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Remembers which 16x16x16 sections of each region changed since the region last matched its snapshot
+ * (after a snapshot capture or a restore). A region only has a baseline once one of those happened in
+ * this session; without it the next snapshot must be a full one. Main thread only.
+ */
+public class SnapshotDirtyTracker {
+
+    private final RegionManager regionManager;
+
+    private final Map<Integer, Set<Long>> dirty = new HashMap<>();
+    private final Set<Integer> baseline = new HashSet<>();
+
+    public SnapshotDirtyTracker(RegionManager regionManager) {
+        this.regionManager = regionManager;
+    }
+
+    public static long sectionKey(int cx, int cy, int cz) {
+        return ((long) (cx & 0x3FFFFF) << 42) | ((long) (cz & 0x3FFFFF) << 20) | (cy & 0xFFFFF);
+    }
+
+    public static int sectionX(long key) { return (int) (key >> 42); }
+    public static int sectionZ(long key) { return (int) (key << 22 >> 42); }
+    public static int sectionY(long key) { return (int) (key << 44 >> 44); }
+
+    public void markDirty(Block block) {
+        if (block == null || baseline.isEmpty()) return;
+        markDirty(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    public void markDirty(World world, int x, int y, int z) {
+        // the common case: nothing has a baseline, or the block is outside every region chunk
+        if (baseline.isEmpty()) return;
+
+        DecayRegion region = regionManager.getRegionAt(world, x, y, z);
+        if (region == null) return;
+
+        int key = region.getId();
+        if (!baseline.contains(key)) return;
+
+        dirty.computeIfAbsent(key, k -> new HashSet<>()).add(sectionKey(x >> 4, y >> 4, z >> 4));
+    }
+
+    /**
+     * The region matches its snapshot from now on (a snapshot was just captured or a restore was queued).
+     */
+    public void markClean(int regionKey) {
+        baseline.add(regionKey);
+        dirty.remove(regionKey);
+    }
+
+    public boolean hasBaseline(int regionKey) {
+        return baseline.contains(regionKey);
+    }
+
+    /**
+     * Returns and clears the dirty sections of a region.
+     */
+    public Set<Long> drain(int regionKey) {
+        Set<Long> out = dirty.remove(regionKey);
+        return out != null ? out : new HashSet<>();
+    }
+
+    public int countDirty(int regionKey) {
+        Set<Long> set = dirty.get(regionKey);
+        return set != null ? set.size() : 0;
+    }
+
+    public void forget(int regionKey) {
+        baseline.remove(regionKey);
+        dirty.remove(regionKey);
+    }
+}
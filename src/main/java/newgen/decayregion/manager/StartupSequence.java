@@ -0,0 +1,183 @@
+package newgen.decayregion.manager;
+
+import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.region.DecayRegion;
+import newgen.decayregion.util.BlockKey;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Brings regions back after onEnable in stages, a few milliseconds per tick:
+ * reconcile leftover placed data (force-clear, or resume their decay timers), then restore every region
+ * from its snapshot.
+ * Regions stay "not ready" until their own restore finished; progress is written to
+ * {@code startup_progress} so an interrupted restore shows up on the next start.
+ */
+public class StartupSequence {
+
+    private static final String RECONCILE_SUBJECT = "stage:reconcile";
+
+    private enum Stage { RECONCILE, RESTORE, DONE }
+
+    private final DecayRegionPlugin plugin;
+    private final PlacedDataStore placedDataStore;
+    private final RegionSnapshotStore snapshotStore;
+
+    private final Deque<Integer> toClear = new ArrayDeque<>();
+    private final Deque<DecayRegion> toRestore = new ArrayDeque<>();
+    private final Deque<PlacedDataStore.Leftover> toResume = new ArrayDeque<>();
+    private final Deque<PlacedDataStore.LeftoverEntity> toResumeEntities = new ArrayDeque<>();
+    // per region, positions of resumed blocks/fluid sources; the startup restore leaves them alone
+    private final Map<Integer, Set<BlockKey>> resumedBlocks = new HashMap<>();
+    private Map<String, String> lastProgress;
+
+    private Stage stage = Stage.RECONCILE;
+    private BukkitTask task;
+    private long stageStart;
+    private int pendingRestores;
+    private boolean lazy;
+    private boolean clearing;
+    private boolean resume;
+
+    public StartupSequence(DecayRegionPlugin plugin, PlacedDataStore placedDataStore, RegionSnapshotStore snapshotStore) {
+        this.plugin = plugin;
+        this.placedDataStore = placedDataStore;
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * Marks every loaded region as not ready and starts the staged work on the next tick.
+     */
+    public void start() {
+        for (DecayRegion r : plugin.getRegionManager().getRegions()) {
+            r.setReady(false);
+            toRestore.add(r);
+        }
+
+        lastProgress = snapshotStore.loadStartupProgress();
+        for (Map.Entry<String, String> e : lastProgress.entrySet()) {
+            if (!"done".equals(e.getValue())) {
+                plugin.getLogger().warning("[Startup] " + e.getKey() + " did not finish last run (stopped at '"
+                        + e.getValue() + "'), it will be fully re-checked.");
+            }
+        }
+
+        if (plugin.getCfg().getBoolean("startup.resume-decay", false)) {
+            resume = true;
+            toResume.addAll(placedDataStore.loadLeftovers());
+            toResumeEntities.addAll(placedDataStore.loadLeftoverEntities());
+            for (PlacedDataStore.Leftover l : toResume) {
+                World world = Bukkit.getWorld(l.world());
+                if (world == null) continue;
+                resumedBlocks.computeIfAbsent(l.region(), r -> new HashSet<>())
+                        .add(new BlockKey(world, l.x(), l.y(), l.z()));
+            }
+            plugin.getLogger().info("[Startup] Resuming " + toResume.size() + " blocks/fluids and "
+                    + toResumeEntities.size() + " entities from persisted deadlines.");
+            snapshotStore.markStartupProgress(RECONCILE_SUBJECT, "running");
+        } else if (placedDataStore.isForceClearOnStartupEnabled()) {
+            lazy = "lazy".equalsIgnoreCase(plugin.getCfg().getString("force-clear.mode", "eager"));
+            if (lazy) plugin.getLazyForceClear().load();
+            else toClear.addAll(placedDataStore.listRegionsWithPlacedData());
+            snapshotStore.markStartupProgress(RECONCILE_SUBJECT, "running");
+        }
+
+        stageStart = System.nanoTime();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public boolean isDone() {
+        return stage == Stage.DONE;
+    }
+
+    public void cancel() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    private void tick() {
+        long budget = Math.max(1L, plugin.getCfg().getLong("startup.millis-per-tick", 20L)) * 1_000_000L;
+        long deadline = System.nanoTime() + budget;
+
+        if (stage == Stage.RECONCILE) {
+            if (resume) {
+                // overdue items expire here in budgeted batches, the rest get their remaining time back
+                long now = System.currentTimeMillis();
+                while (!toResume.isEmpty() && System.nanoTime() < deadline) {
+                    plugin.getBlockDecayManager().resume(toResume.poll(), now);
+                }
+                while (!toResumeEntities.isEmpty() && System.nanoTime() < deadline) {
+                    plugin.getEntityDecayListener().resume(toResumeEntities.poll(), now);
+                }
+                if (!toResume.isEmpty() || !toResumeEntities.isEmpty()) return;
+                snapshotStore.markStartupProgress(RECONCILE_SUBJECT, "done");
+            } else if (lazy) {
+                // only chunks that are loaded right now; the rest are cleared as they load
+                if (!plugin.getLazyForceClear().clearLoaded(deadline)) return;
+                plugin.getLazyForceClear().startTrickle();
+            } else {
+                // one region at a time; each clear is itself budgeted per tick
+                if (clearing) return;
+                if (!toClear.isEmpty()) {
+                    clearing = true;
+                    placedDataStore.forceClearRegion(toClear.poll(), () -> clearing = false);
+                    return;
+                }
+                if (placedDataStore.isForceClearOnStartupEnabled()) placedDataStore.wipeAllPlacedData();
+            }
+
+            if (!resume && placedDataStore.isForceClearOnStartupEnabled()) {
+                snapshotStore.markStartupProgress(RECONCILE_SUBJECT, "done");
+            }
+            finishStage("reconcile placed data");
+            stage = Stage.RESTORE;
+        }
+
+        if (stage == Stage.RESTORE) {
+            while (!toRestore.isEmpty() && System.nanoTime() < deadline) {
+                startRestore(toRestore.poll());
+            }
+            if (toRestore.isEmpty() && pendingRestores == 0) {
+                finishStage("restore regions");
+                stage = Stage.DONE;
+                cancel();
+            }
+        }
+    }
+
+    private void startRestore(DecayRegion region) {
+        String key = RegionSnapshotStore.progressSubject(region);
+
+        // resumed blocks are live decay state: restore everything around them, never the blocks themselves
+        Set<BlockKey> keep = resumedBlocks.get(region.getId());
+        boolean interrupted = lastProgress.containsKey(key) && !"done".equals(lastProgress.get(key));
+
+        pendingRestores++;
+        snapshotStore.markStartupProgress(key, "restoring");
+
+        Consumer<RegionSnapshotStore.RestoreResult> done = result -> {
+            region.setReady(true);
+            snapshotStore.markStartupProgress(key, "done");
+            pendingRestores--;
+        };
+
+        // after a crash mid-restore, diff every section instead of trusting the stored hashes
+        if (interrupted) snapshotStore.restoreRegionExcept(region, keep, done);
+        else snapshotStore.restoreChangedSections(region, keep, done);
+    }
+
+    private void finishStage(String name) {
+        long now = System.nanoTime();
+        plugin.getLogger().info("[Startup] Stage '" + name + "' finished in " + (now - stageStart) / 1_000_000L + " ms.");
+        stageStart = now;
+    }
+}
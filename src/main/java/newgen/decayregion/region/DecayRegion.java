@@ -4,12 +4,19 @@ import org.bukkit.Location;
 
 public class DecayRegion {
 
+    // stable id assigned by RegionManager; what stored data and in-memory state refer to (0 = not assigned)
+    private int id;
     private String name;
     private final String worldName;
     private final int minX, minY, minZ;
     private final int maxX, maxY, maxZ;
 
     private int decaySeconds;
+    private DropPolicy dropPolicy = DropPolicy.NATURAL;
+    private int animationSteps = 5;
+
+    // false while the staged startup is still clearing/restoring this region
+    private volatile boolean ready = true;
 
     public DecayRegion(String name, String worldName,
                        int minX, int minY, int minZ,
@@ -27,15 +34,17 @@ public class DecayRegion {
     }
 
     public boolean contains(Location loc) {
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
+        return contains(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
 
+    public boolean contains(int x, int y, int z) {
         return x >= minX && x <= maxX
                 && y >= minY && y <= maxY
                 && z >= minZ && z <= maxZ;
     }
 
+    public int getId() { return id; }
+    void setId(int id) { this.id = id; }
     public String getName() { return name; }
     public String getWorldName() { return worldName; }
 
@@ -48,4 +57,10 @@ public class DecayRegion {
     public int getDecaySeconds() { return decaySeconds; }
     public void setName(String name) { this.name = name; }
     public void setDecaySeconds(int decaySeconds) { this.decaySeconds = decaySeconds; }
+    public DropPolicy getDropPolicy() { return dropPolicy; }
+    public void setDropPolicy(DropPolicy dropPolicy) { this.dropPolicy = dropPolicy; }
+    public int getAnimationSteps() { return animationSteps; }
+    public void setAnimationSteps(int animationSteps) { this.animationSteps = animationSteps; }
+    public boolean isReady() { return ready; }
+    public void setReady(boolean ready) { this.ready = ready; }
 }
@@ -0,0 +1,25 @@
+package newgen.decayregion.region;
+
+/**
+ * What happens to the drops of a block that decays inside a region.
+ */
+public enum DropPolicy {
+
+    /** One item entity per drop, like a player breaking the block. */
+    NATURAL,
+    /** The block disappears without drops. */
+    NONE,
+    /** Drops of one chunk are merged per tick into as few item entities as possible. */
+    MERGE,
+    /** Drops go into the placing player's inventory; overflow (or an offline placer) falls back to MERGE. */
+    RETURN;
+
+    public static DropPolicy fromString(String value, DropPolicy def) {
+        if (value == null) return def;
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return def;
+        }
+    }
+}
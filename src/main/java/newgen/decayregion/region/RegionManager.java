@@ -1,7 +1,11 @@
 package newgen.decayregion.region;
 
 import newgen.decayregion.DecayRegionPlugin;
+import newgen.decayregion.util.ChunkKey;
+import newgen.decayregion.util.LongHashSet;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -13,9 +17,15 @@ public class RegionManager {
 
     private final DecayRegionPlugin plugin;
     private final Map<String, DecayRegion> regions = new HashMap<>();
+    private final Map<Integer, DecayRegion> regionsById = new HashMap<>();
+    // never reused, so rows left behind by a deleted region can't attach to a new one
+    private int nextId = 1;
     private final File regionFile;
     private YamlConfiguration regionConfig;
 
+    // world name -> packed keys of every chunk that intersects a region; rebuilt whenever regions change
+    private volatile Map<String, LongHashSet> regionChunks = Collections.emptyMap();
+
     public RegionManager(DecayRegionPlugin plugin) {
         this.plugin = plugin;
         this.regionFile = new File(plugin.getDataFolder(), "decay_region.yml");
@@ -24,12 +34,21 @@ public class RegionManager {
 
     public void loadRegions() {
         regions.clear();
+        regionsById.clear();
         regionConfig = YamlConfiguration.loadConfiguration(regionFile);
+        nextId = Math.max(1, regionConfig.getInt("next-id", 1));
 
         ConfigurationSection root = regionConfig.getConfigurationSection("regions");
-        if (root == null) return;
+        if (root == null) {
+            rebuildChunkIndex();
+            return;
+        }
+
+        List<DecayRegion> withoutId = new ArrayList<>();
 
         int defaultDecay = plugin.getConfig().getInt("default-decay-seconds", 30);
+        DropPolicy defaultDrops = getDefaultDropPolicy();
+        int defaultSteps = getDefaultAnimationSteps();
 
         for (String name : root.getKeys(false)) {
             ConfigurationSection sec = root.getConfigurationSection(name);
@@ -52,17 +71,35 @@ public class RegionManager {
             int decaySeconds = sec.getInt("decay-seconds", defaultDecay);
 
             DecayRegion region = new DecayRegion(name, world, minX, minY, minZ, maxX, maxY, maxZ, decaySeconds);
+            region.setDropPolicy(DropPolicy.fromString(sec.getString("drop-policy"), defaultDrops));
+            region.setAnimationSteps(Math.max(0, sec.getInt("animation-steps", defaultSteps)));
+
+            int id = sec.getInt("id", 0);
+            if (id > 0 && !regionsById.containsKey(id)) {
+                region.setId(id);
+                regionsById.put(id, region);
+                nextId = Math.max(nextId, id + 1);
+            } else {
+                withoutId.add(region);
+            }
             regions.put(name.toLowerCase(), region);
         }
 
+        // regions from older versions (or with a clashing id) get a fresh one
+        for (DecayRegion region : withoutId) assignId(region);
+        if (!withoutId.isEmpty()) saveRegions();
+
+        rebuildChunkIndex();
         plugin.getLogger().info("Loaded " + regions.size() + " decay regions.");
     }
 
     public void saveRegions() {
         regionConfig = new YamlConfiguration();
+        regionConfig.set("next-id", nextId);
 
         for (DecayRegion region : regions.values()) {
             String path = "regions." + region.getName();
+            regionConfig.set(path + ".id", region.getId());
             regionConfig.set(path + ".world", region.getWorldName());
 
             regionConfig.set(path + ".min.x", region.getMinX());
@@ -74,6 +111,8 @@ public class RegionManager {
             regionConfig.set(path + ".max.z", region.getMaxZ());
 
             regionConfig.set(path + ".decay-seconds", region.getDecaySeconds());
+            regionConfig.set(path + ".drop-policy", region.getDropPolicy().name().toLowerCase());
+            regionConfig.set(path + ".animation-steps", region.getAnimationSteps());
         }
 
         try {
@@ -84,14 +123,32 @@ public class RegionManager {
         }
     }
 
+    public DropPolicy getDefaultDropPolicy() {
+        return DropPolicy.fromString(plugin.getConfig().getString("decay.drops.default-policy"), DropPolicy.NATURAL);
+    }
+
+    public int getDefaultAnimationSteps() {
+        return Math.max(0, plugin.getConfig().getInt("decay.animation.steps", 5));
+    }
+
+    private void assignId(DecayRegion region) {
+        region.setId(nextId++);
+        regionsById.put(region.getId(), region);
+    }
+
     public void addRegion(DecayRegion region) {
+        if (region.getId() == 0) assignId(region);
+        else regionsById.put(region.getId(), region);
         regions.put(region.getName().toLowerCase(), region);
+        rebuildChunkIndex();
         saveRegions();
     }
 
     public boolean removeRegion(String name) {
         DecayRegion removed = regions.remove(name.toLowerCase());
         if (removed == null) return false;
+        regionsById.remove(removed.getId());
+        rebuildChunkIndex();
         saveRegions();
         return true;
     }
@@ -101,10 +158,66 @@ public class RegionManager {
         return regions.get(name.toLowerCase());
     }
 
+    public DecayRegion getRegion(int id) {
+        return regionsById.get(id);
+    }
+
     public Collection<DecayRegion> getRegions() {
         return regions.values();
     }
 
+    /**
+     * True when player changes in this region must be refused because startup has not finished
+     * restoring it ({@code startup.not-ready-action: deny}).
+     */
+    public boolean isLockedForStartup(DecayRegion region) {
+        if (region == null || region.isReady()) return false;
+        return !"allow".equalsIgnoreCase(plugin.getConfig().getString("startup.not-ready-action", "deny"));
+    }
+
+    /**
+     * Cheap prefilter for event handlers: false means no region touches this chunk, so the event can be
+     * ignored without a region lookup.
+     */
+    public boolean isRegionChunk(World world, int cx, int cz) {
+        LongHashSet chunks = regionChunks.get(world.getName());
+        return chunks != null && chunks.contains(ChunkKey.pack(cx, cz));
+    }
+
+    public boolean isRegionChunk(Block block) {
+        return isRegionChunk(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    /**
+     * Prefilter for events whose blocks spread around a source (explosions, pistons move at most 13 blocks):
+     * true if the source chunk or one of its 8 neighbours belongs to a region.
+     */
+    public boolean isNearRegionChunk(World world, int x, int z) {
+        LongHashSet chunks = regionChunks.get(world.getName());
+        if (chunks == null) return false;
+
+        int cx = x >> 4, cz = z >> 4;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (chunks.contains(ChunkKey.pack(cx + dx, cz + dz))) return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuildChunkIndex() {
+        Map<String, LongHashSet> index = new HashMap<>();
+        for (DecayRegion r : regions.values()) {
+            LongHashSet chunks = index.computeIfAbsent(r.getWorldName(), w -> new LongHashSet());
+            for (int cx = r.getMinX() >> 4; cx <= r.getMaxX() >> 4; cx++) {
+                for (int cz = r.getMinZ() >> 4; cz <= r.getMaxZ() >> 4; cz++) {
+                    chunks.add(ChunkKey.pack(cx, cz));
+                }
+            }
+        }
+        regionChunks = index;
+    }
+
     public boolean isInAnyRegion(Location loc) {
         return getRegionAt(loc) != null;
     }
@@ -117,11 +230,22 @@ public class RegionManager {
         return null;
     }
 
+    /**
+     * Coordinate lookup for hot event paths: rejects chunks outside every region before scanning.
+     */
+    public DecayRegion getRegionAt(World world, int x, int y, int z) {
+        if (!isRegionChunk(world, x >> 4, z >> 4)) return null;
+        for (DecayRegion region : regions.values()) {
+            if (region.contains(x, y, z) && region.getWorldName().equals(world.getName())) return region;
+        }
+        return null;
+    }
+
     public boolean isOverlapping(DecayRegion candidate) {
         if (candidate == null) return false;
 
         for (DecayRegion existing : regions.values()) {
-            if (existing.getName().equalsIgnoreCase(candidate.getName())) continue;
+            if (existing.getId() == candidate.getId()) continue;
             if (regionsOverlap(existing, candidate)) return true;
         }
         return false;
@@ -0,0 +1,41 @@
+package newgen.decayregion.selection;
+
+import newgen.decayregion.DecayRegionPlugin;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * The selection wand: a blaze rod tagged with a PDC marker. Detection checks the material first and then
+ * reads the tag through the item's PDC view, so ordinary items never get their meta cloned.
+ */
+public class DecayWand {
+
+    private static NamespacedKey key;
+
+    public static void init(DecayRegionPlugin plugin) {
+        key = new NamespacedKey(plugin, "decay_wand");
+    }
+
+    public static ItemStack create() {
+        ItemStack wand = new ItemStack(Material.BLAZE_ROD);
+        ItemMeta meta = wand.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName("§bDecayRegion Wand");
+            meta.addEnchant(Enchantment.UNBREAKING, 1, true);
+            meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+            meta.getPersistentDataContainer().set(key, PersistentDataType.BYTE, (byte) 1);
+            wand.setItemMeta(meta);
+        }
+        return wand;
+    }
+
+    public static boolean isWand(ItemStack item) {
+        if (item == null || item.getType() != Material.BLAZE_ROD) return false;
+        return item.getPersistentDataContainer().has(key, PersistentDataType.BYTE);
+    }
+}
@@ -27,6 +27,15 @@ public class BlockKey {
         return new BlockKey(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
     }
 
+    public UUID getWorld() { return world; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getZ() { return z; }
+
+    public ChunkKey getChunk() {
+        return new ChunkKey(world, x >> 4, z >> 4);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,50 @@
+package newgen.decayregion.util;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public class ChunkKey {
+
+    private final UUID world;
+    private final int x, z;
+
+    public ChunkKey(UUID world, int x, int z) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+    }
+
+    public static ChunkKey fromChunk(Chunk chunk) {
+        return new ChunkKey(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+    }
+
+    public static ChunkKey fromLocation(Location loc) {
+        return new ChunkKey(loc.getWorld().getUID(), loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+    }
+
+    /** Packs chunk coordinates into one long (for primitive sets/maps). */
+    public static long pack(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    public UUID getWorld() { return world; }
+    public int getX() { return x; }
+    public int getZ() { return z; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChunkKey)) return false;
+        ChunkKey that = (ChunkKey) o;
+        return x == that.x && z == that.z &&
+                world.equals(that.world);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(world, x, z);
+    }
+}
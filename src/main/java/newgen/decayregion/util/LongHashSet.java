@@ -0,0 +1,93 @@
+package newgen.decayregion.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of primitive longs (no boxing). Linear probing, power-of-two table, 0 is stored
+ * out of band. Not thread-safe; build it once and publish it.
+ */
+public class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expected) {
+        int cap = Integer.highestOneBit(Math.max(4, (int) (expected / LOAD_FACTOR)) - 1) << 1;
+        table = new long[cap];
+        mask = cap - 1;
+    }
+
+    public boolean add(long value) {
+        if (value == 0L) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int i = index(value);
+        while (table[i] != 0L) {
+            if (table[i] == value) return false;
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        if (++size > table.length * LOAD_FACTOR) grow();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0L) return hasZero;
+
+        int i = index(value);
+        long v;
+        while ((v = table[i]) != 0L) {
+            if (v == value) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+        hasZero = false;
+        size = 0;
+    }
+
+    private int index(long value) {
+        // murmur3 finalizer; chunk keys are highly regular in their low bits
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length << 1];
+        mask = table.length - 1;
+
+        for (long v : old) {
+            if (v == 0L) continue;
+            int i = index(v);
+            while (table[i] != 0L) i = (i + 1) & mask;
+            table[i] = v;
+        }
+    }
+}
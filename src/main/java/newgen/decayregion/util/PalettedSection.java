@@ -0,0 +1,166 @@
+package newgen.decayregion.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One 16x16x16 chunk section of a region snapshot: a palette of block-data strings
+ * plus one palette index per position. Index 0 means "not captured" (outside the region
+ * or skipped air), palette entry {@code n} is stored as index {@code n + 1}.
+ */
+public class PalettedSection {
+
+    public static final int SIZE = 16;
+    public static final int VOLUME = SIZE * SIZE * SIZE;
+    public static final int SKIP = 0;
+
+    /** Seed of {@link #hashStep}; a section's content hash folds every position in index order. */
+    public static final long HASH_SEED = 0xCBF29CE484222325L;
+
+    private final int sectionX, sectionY, sectionZ;
+    private final List<String> palette = new ArrayList<>();
+    private final Map<String, Integer> lookup = new HashMap<>();
+    private final int[] indices = new int[VOLUME];
+    private int stored;
+    private long contentHash;
+
+    public PalettedSection(int sectionX, int sectionY, int sectionZ) {
+        this.sectionX = sectionX;
+        this.sectionY = sectionY;
+        this.sectionZ = sectionZ;
+    }
+
+    public static int index(int localX, int localY, int localZ) {
+        return (localY << 8) | (localZ << 4) | localX;
+    }
+
+    public static int localX(int index) { return index & 15; }
+    public static int localZ(int index) { return (index >> 4) & 15; }
+    public static int localY(int index) { return index >> 8; }
+
+    public void set(int localX, int localY, int localZ, String blockData) {
+        int i = index(localX, localY, localZ);
+        if (indices[i] == SKIP) stored++;
+
+        Integer id = lookup.get(blockData);
+        if (id == null) {
+            palette.add(blockData);
+            id = palette.size();
+            lookup.put(blockData, id);
+        }
+        indices[i] = id;
+    }
+
+    /** Palette index + 1 at the given position, or {@link #SKIP}. */
+    public int getRaw(int index) {
+        return indices[index];
+    }
+
+    /** Block-data string at the given position, or null when the position is not captured. */
+    public String get(int index) {
+        int id = indices[index];
+        return id == SKIP ? null : palette.get(id - 1);
+    }
+
+    public int getSectionX() { return sectionX; }
+    public int getSectionY() { return sectionY; }
+    public int getSectionZ() { return sectionZ; }
+    public int getStoredCount() { return stored; }
+    public boolean isEmpty() { return stored == 0; }
+
+    public List<String> getPalette() {
+        return Collections.unmodifiableList(palette);
+    }
+
+    /**
+     * FNV-1a style step over one block-data string. Capture and live checks must fold the same
+     * positions (the region-clipped part of the section) in index order.
+     */
+    public static long hashStep(long hash, String blockData) {
+        hash ^= blockData.hashCode();
+        return hash * 0x100000001B3L;
+    }
+
+    public long getContentHash() { return contentHash; }
+    public void setContentHash(long contentHash) { this.contentHash = contentHash; }
+
+    public int getWorldX(int index) { return (sectionX << 4) + localX(index); }
+    public int getWorldY(int index) { return (sectionY << 4) + localY(index); }
+    public int getWorldZ(int index) { return (sectionZ << 4) + localZ(index); }
+
+    // =========================
+    // ENCODING
+    // =========================
+
+    /**
+     * Bits per packed index. 0 means the whole section is palette entry 0, so no index data is stored.
+     */
+    public int getBits() {
+        if (palette.size() == 1 && stored == VOLUME) return 0;
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(palette.size()));
+    }
+
+    /**
+     * Packs the indices into longs without spanning values across long boundaries
+     * (same layout as vanilla chunk sections), then flattens them to bytes.
+     */
+    public byte[] packIndices() {
+        int bits = getBits();
+        if (bits == 0) return new byte[0];
+
+        int perLong = 64 / bits;
+        long mask = (1L << bits) - 1L;
+        long[] longs = new long[(VOLUME + perLong - 1) / perLong];
+
+        for (int i = 0; i < VOLUME; i++) {
+            int slot = i / perLong;
+            int shift = (i % perLong) * bits;
+            longs[slot] |= (indices[i] & mask) << shift;
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(longs.length * Long.BYTES);
+        for (long l : longs) buf.putLong(l);
+        return buf.array();
+    }
+
+    public static PalettedSection decode(int sectionX, int sectionY, int sectionZ,
+                                         List<String> palette, int bits, byte[] data) {
+        PalettedSection section = new PalettedSection(sectionX, sectionY, sectionZ);
+        if (palette == null || palette.isEmpty()) return section;
+
+        for (String s : palette) {
+            section.palette.add(s);
+            section.lookup.put(s, section.palette.size());
+        }
+
+        if (bits == 0) {
+            Arrays.fill(section.indices, 1);
+            section.stored = VOLUME;
+            return section;
+        }
+
+        int perLong = 64 / bits;
+        long mask = (1L << bits) - 1L;
+        ByteBuffer buf = ByteBuffer.wrap(data);
+        int paletteSize = section.palette.size();
+
+        for (int i = 0; i < VOLUME; i++) {
+            int slot = i / perLong;
+            if ((slot + 1) * Long.BYTES > data.length) break;
+
+            int shift = (i % perLong) * bits;
+            int id = (int) ((buf.getLong(slot * Long.BYTES) >>> shift) & mask);
+            if (id > paletteSize) id = SKIP;
+
+            section.indices[i] = id;
+            if (id != SKIP) section.stored++;
+        }
+
+        return section;
+    }
+}